@@ -0,0 +1,59 @@
+package com.management.materials.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.management.materials.dto.response.ApiResponseDto;
+import com.management.materials.dto.response.CityResponseDto;
+import com.management.materials.dto.response.DepartmentResponseDto;
+import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de serializar ApiResponseDto&lt;List&lt;MaterialResponseDto&gt;&gt; con Jackson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponseDto<List<MaterialResponseDto>> response;
+
+    @Setup
+    public void setUp() {
+        // Misma configuración relevante que el ObjectMapper de Spring Boot
+        writer = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+
+        CityResponseDto city = new CityResponseDto("MED", "Medellín", new DepartmentResponseDto("ANT", "Antioquia"));
+        List<MaterialResponseDto> materials = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            materials.add(new MaterialResponseDto((long) i, "Material " + i, "Descripción del material " + i,
+                    MaterialType.values()[i % MaterialType.values().length], BigDecimal.valueOf(1000 + i),
+                    LocalDate.of(2024, 1, 1 + (i % 28)), null, MaterialStatus.ACTIVE, city));
+        }
+        response = ApiResponseDto.success(materials, "Materiales obtenidos exitosamente. Total: " + size);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,107 @@
+package com.management.materials.benchmark;
+
+import com.management.materials.MaterialsApplication;
+import com.management.materials.cache.ReferenceDataCache;
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.CityRepository;
+import com.management.materials.repository.DepartmentRepository;
+import com.management.materials.repository.MaterialRepository;
+import com.management.materials.repository.projection.MaterialRow;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de listado de MaterialRepository contra H2 (perfil h2)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MaterialRepositoryBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private MaterialRepository materialRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MaterialsApplication.class)
+                .profiles("h2")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                )
+                .run();
+
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+        CityRepository cityRepository = context.getBean(CityRepository.class);
+        materialRepository = context.getBean(MaterialRepository.class);
+
+        Department antioquia = departmentRepository.save(new Department("ANT", "Antioquia"));
+        Department valle = departmentRepository.save(new Department("VAL", "Valle del Cauca"));
+        List<City> cities = cityRepository.saveAll(List.of(
+                new City("MED", "Medellín", antioquia),
+                new City("ENV", "Envigado", antioquia),
+                new City("CAL", "Cali", valle)
+        ));
+
+        List<Material> materials = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            materials.add(new Material("Material " + i, "Descripción del material " + i,
+                    MaterialType.values()[i % MaterialType.values().length], BigDecimal.valueOf(1000 + i),
+                    LocalDate.of(2024, 1 + (i % 12), 1 + (i % 28)), MaterialStatus.ACTIVE,
+                    cities.get(i % cities.size())));
+        }
+        materialRepository.saveAll(materials);
+        context.getBean(ReferenceDataCache.class).refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MaterialRow> findRowsByType() {
+        return materialRepository.findRowsByType(MaterialType.ELECTRONICO);
+    }
+
+    @Benchmark
+    public List<MaterialRow> findRowsByDepartmentCode() {
+        return materialRepository.findRowsByDepartmentCode("VAL");
+    }
+
+    @Benchmark
+    public List<MaterialRow> searchRows() {
+        return materialRepository.searchRows(new MaterialSearchDto(MaterialType.OFICINA, null, "MED", null));
+    }
+
+    @Benchmark
+    public List<MaterialRow> findFirstRowPage() {
+        return materialRepository.findFirstRowPage(PageRequest.of(0, 51));
+    }
+
+    @Benchmark
+    public List<Material> findByTypeEntities() {
+        return materialRepository.findByType(MaterialType.ELECTRONICO);
+    }
+}
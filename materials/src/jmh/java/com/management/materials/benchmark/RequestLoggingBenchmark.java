@@ -0,0 +1,101 @@
+package com.management.materials.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de logging por petición de una búsqueda de materiales: las cuatro líneas INFO anteriores
+ * (controlador y servicio, appender síncrono), las mismas líneas en DEBUG deshabilitado y la línea
+ * de acceso muestreada (10 %) con appender asíncrono. La salida se descarta para medir solo el
+ * costo en el hilo de la petición y el formateo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncAccessLogger;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+
+        syncLogger = context.getLogger("com.management.materials.service.impl.MaterialServiceImpl");
+        syncLogger.setAdditive(false);
+        syncLogger.setLevel(Level.INFO);
+        syncLogger.addAppender(discardingAppender("SYNC"));
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(discardingAppender("ASYNC_TARGET"));
+        async.start();
+
+        asyncAccessLogger = context.getLogger("access");
+        asyncAccessLogger.setAdditive(false);
+        asyncAccessLogger.setLevel(Level.INFO);
+        asyncAccessLogger.addAppender(async);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    private Appender<ILoggingEvent> discardingAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    @Benchmark
+    public void perMethodInfo() {
+        syncLogger.info("Solicitud para buscar materiales por código de ciudad: {}", "MED");
+        syncLogger.info("Buscando materiales por código de ciudad: {}", "MED");
+        syncLogger.info("Se encontraron {} materiales en la ciudad {}", 125, "MED");
+        syncLogger.info("Materiales obtenidos: {}", 125);
+    }
+
+    @Benchmark
+    public void perMethodDebugDisabled() {
+        syncLogger.debug("Solicitud para buscar materiales por código de ciudad: {}", "MED");
+        syncLogger.debug("Buscando materiales por código de ciudad: {}", "MED");
+        syncLogger.debug("Se encontraron {} materiales en la ciudad {}", 125, "MED");
+        syncLogger.debug("Materiales obtenidos: {}", 125);
+    }
+
+    @Benchmark
+    public void sampledAsyncAccessLog() {
+        syncLogger.debug("Buscando materiales por código de ciudad: {}", "MED");
+        if (ThreadLocalRandom.current().nextDouble() < 0.1) {
+            asyncAccessLogger.info("method=GET path=/api/materials/by-city/MED route=/api/materials/by-city/{cityCode}"
+                    + " status=200 duration_ms=12 statements=2 jdbc_ms=4 rows=125 sampled=true");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.management.materials.config;
+
+import com.management.materials.dto.request.UserInfo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de construir las autoridades de Spring Security desde UserInfo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthoritiesBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private UserInfo userInfo;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtAuthenticationFilter(null, null);
+
+        userInfo = new UserInfo();
+        userInfo.setUsername("benchmark");
+        userInfo.setRoles(new String[]{"USER", "MANAGER", "ADMIN"});
+        userInfo.setPermissions(new String[]{
+                "MATERIAL_READ", "MATERIAL_CREATE", "MATERIAL_UPDATE", "MATERIAL_DELETE",
+                "CITY_READ", "DEPARTMENT_READ"
+        });
+    }
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> createAuthorities() {
+        return filter.createAuthorities(userInfo);
+    }
+}
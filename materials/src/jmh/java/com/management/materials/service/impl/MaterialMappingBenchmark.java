@@ -0,0 +1,80 @@
+package com.management.materials.service.impl;
+
+import com.management.materials.cache.ReferenceDataCache;
+import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de convertir materiales a MaterialResponseDto desde entidades y desde filas proyectadas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaterialMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private MaterialServiceImpl service;
+    private Material material;
+    private List<Material> materials;
+    private List<MaterialRow> rows;
+
+    @Setup
+    public void setUp() {
+        // Sin repositorios: la caché de referencia queda vacía y se usa la conversión desde la entidad
+        service = new MaterialServiceImpl(null, null, new ReferenceDataCache(null, null, null), null, null, null);
+
+        Department department = new Department("ANT", "Antioquia");
+        City[] cities = {
+                new City("MED", "Medellín", department),
+                new City("ENV", "Envigado", department),
+                new City("BEL", "Bello", department)
+        };
+
+        materials = new ArrayList<>(size);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            City city = cities[i % cities.length];
+            Material m = new Material("Material " + i, "Descripción del material " + i, MaterialType.ELECTRONICO,
+                    BigDecimal.valueOf(1000 + i), LocalDate.of(2024, 1, 1 + (i % 28)), MaterialStatus.ACTIVE, city);
+            m.setId((long) i);
+            materials.add(m);
+            rows.add(new MaterialRow(m.getId(), m.getName(), m.getDescription(), m.getType(), m.getPrice(),
+                    m.getPurchaseDate(), null, m.getStatus(), 0L, city.getCode(), city.getName(),
+                    department.getCode(), department.getName()));
+        }
+        material = materials.get(0);
+    }
+
+    @Benchmark
+    public MaterialResponseDto convertSingleEntity() {
+        return service.convertToResponseDto(material);
+    }
+
+    @Benchmark
+    public List<MaterialResponseDto> convertEntityList() {
+        List<MaterialResponseDto> result = new ArrayList<>(materials.size());
+        for (Material m : materials) {
+            result.add(service.convertToResponseDto(m));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<MaterialResponseDto> convertProjectedRows() {
+        return service.convertRowsToResponseDtos(rows);
+    }
+}
@@ -0,0 +1,401 @@
+package com.management.materials.cache;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.event.MaterialChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché de respuestas serializadas (JSON) de los listados de materiales por tipo, ciudad,
+ * departamento y búsqueda avanzada, indexadas por endpoint y parámetros normalizados.
+ * Cada entrada guarda la lista de materiales ya serializada, el mensaje y el ETag con que se generó.
+ * Está acotada por memoria (tamaño de las respuestas, expulsión LRU) y cada cambio de material
+ * confirmado invalida solo las entradas cuyo tipo, ciudad y departamento coinciden con el
+ * material antes o después del cambio. Un cambio de los datos de referencia la vacía completa.
+ */
+@Component
+public class MaterialResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialResponseCache.class);
+
+    /**
+     * Costo aproximado por entrada además del cuerpo (entrada del mapa, índice y clave)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private static final String TAG_ALL = "all";
+
+    private final ReferenceDataCache referenceDataCache;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+    private long bytes;
+    private long generation;
+    private long referenceVersion;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public MaterialResponseCache(ReferenceDataCache referenceDataCache,
+                                 @Value("${app.materials.response-cache.enabled:true}") boolean enabled,
+                                 @Value("${app.materials.response-cache.max-memory-mb:64}") long maxMemoryMb,
+                                 @Value("${app.materials.response-cache.max-entry-kb:2048}") long maxEntryKb) {
+        this.referenceDataCache = referenceDataCache;
+        this.enabled = enabled;
+        this.maxBytes = maxMemoryMb * 1024 * 1024;
+        this.maxEntryBytes = Math.min(maxEntryKb * 1024, maxBytes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obtiene la respuesta serializada de una clave. Mientras está en caché ningún cambio la afectó,
+     * por lo que su ETag sigue siendo válido para el listado.
+     *
+     * @return Respuesta guardada o null si no está en caché
+     */
+    public CachedResponse get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        synchronized (this) {
+            checkReferenceVersion();
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                return entry.response;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Generación vigente, que debe obtenerse antes de consultar la base de datos y pasarse a
+     * {@link #put}: si entre ambos momentos se confirmó un cambio de material, la respuesta
+     * puede no reflejarlo y se descarta.
+     */
+    public synchronized long currentGeneration() {
+        checkReferenceVersion();
+        return generation;
+    }
+
+    /**
+     * Guarda una respuesta serializada
+     *
+     * @param scope Tipos, ciudad y departamento que filtran la respuesta (define su invalidación)
+     * @param loadGeneration Generación obtenida antes de calcular el ETag y consultar la base de datos
+     */
+    public void put(String key, Scope scope, CachedResponse response, long loadGeneration) {
+        if (!enabled || response.weight() + ENTRY_OVERHEAD_BYTES > maxEntryBytes) {
+            return;
+        }
+        synchronized (this) {
+            checkReferenceVersion();
+            if (loadGeneration != generation) {
+                return;
+            }
+
+            remove(key);
+            Entry entry = new Entry(key, scope, response);
+            entries.put(key, entry);
+            for (String tag : entry.tags) {
+                keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+            }
+            bytes += entry.weight;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                unindex(evicted);
+                bytes -= evicted.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Invalida las respuestas afectadas por un cambio de material una vez confirmada la transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            int removed = invalidate(event.getBefore()) + invalidate(event.getAfter());
+            if (removed > 0) {
+                invalidations.add(removed);
+                logger.debug("{}: {} respuestas invalidadas", event, removed);
+            }
+        }
+    }
+
+    private int invalidate(MaterialChangedEvent.MaterialSnapshot material) {
+        if (material == null) {
+            return 0;
+        }
+
+        // Candidatas: entradas indexadas por algún atributo del material y las que no filtran por ninguno
+        Set<String> candidates = new HashSet<>();
+        addTagged(candidates, TAG_ALL);
+        addTagged(candidates, typeTag(material.getType()));
+        if (material.getCityCode() != null) {
+            addTagged(candidates, cityTag(material.getCityCode()));
+        } else {
+            keysByTag.forEach((tag, keys) -> { if (tag.startsWith("city:")) candidates.addAll(keys); });
+        }
+        if (material.getDepartmentCode() != null) {
+            addTagged(candidates, departmentTag(material.getDepartmentCode()));
+        } else {
+            keysByTag.forEach((tag, keys) -> { if (tag.startsWith("department:")) candidates.addAll(keys); });
+        }
+
+        int removed = 0;
+        for (String key : candidates) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.scope.matches(material)) {
+                remove(key);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void addTagged(Set<String> candidates, String tag) {
+        Set<String> keys = keysByTag.get(tag);
+        if (keys != null) {
+            candidates.addAll(keys);
+        }
+    }
+
+    /**
+     * Vacía la caché si cambió la versión de los datos de referencia (nombres de ciudades y departamentos)
+     */
+    private void checkReferenceVersion() {
+        long version = referenceDataCache.getVersion();
+        if (version != referenceVersion) {
+            referenceVersion = version;
+            clearEntries();
+        }
+    }
+
+    /**
+     * Elimina todas las entradas
+     */
+    public synchronized void clear() {
+        clearEntries();
+    }
+
+    private void clearEntries() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+        keysByTag.clear();
+        bytes = 0;
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            unindex(entry);
+            bytes -= entry.weight;
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String tag : entry.tags) {
+            Set<String> keys = keysByTag.get(tag);
+            if (keys != null && keys.remove(entry.key) && keys.isEmpty()) {
+                keysByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Clave de la búsqueda avanzada: los filtros en orden fijo, los tipos combinados y ordenados
+     * y los precios sin ceros a la derecha, de modo que búsquedas equivalentes compartan entrada
+     */
+    public static String searchKey(MaterialSearchDto search) {
+        return "search:types=" + search.resolveTypes()
+                + "&date=" + search.getPurchaseDate()
+                + "&from=" + search.getPurchaseDateFrom()
+                + "&to=" + search.getPurchaseDateTo()
+                + "&minPrice=" + normalize(search.getMinPrice())
+                + "&maxPrice=" + normalize(search.getMaxPrice())
+                + "&status=" + search.getStatus()
+                + "&city=" + search.getCityCode()
+                + "&department=" + search.getDepartmentCode();
+    }
+
+    private static String normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : null;
+    }
+
+    private static String typeTag(MaterialType type) {
+        return "type:" + type;
+    }
+
+    private static String cityTag(String cityCode) {
+        return "city:" + cityCode;
+    }
+
+    private static String departmentTag(String departmentCode) {
+        return "department:" + departmentCode;
+    }
+
+    // Métricas
+    public long getHits() { return hits.sum(); }
+
+    public long getMisses() { return misses.sum(); }
+
+    public long getEvictions() { return evictions.sum(); }
+
+    public long getInvalidations() { return invalidations.sum(); }
+
+    public synchronized int size() { return entries.size(); }
+
+    public synchronized long getBytes() { return bytes; }
+
+    public long getMaxBytes() { return maxBytes; }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Filtros de una respuesta que determinan qué cambios de material la invalidan.
+     * Un filtro nulo (o tipos vacíos) significa que la respuesta incluye todos los valores.
+     * Los demás filtros (fechas, precios, estado) no se consideran: se invalida de más, nunca de menos.
+     */
+    public static final class Scope {
+
+        private final Set<MaterialType> types;
+        private final String cityCode;
+        private final String departmentCode;
+
+        private Scope(Set<MaterialType> types, String cityCode, String departmentCode) {
+            this.types = types == null || types.isEmpty() ? null : Set.copyOf(types);
+            this.cityCode = cityCode;
+            this.departmentCode = departmentCode;
+        }
+
+        public static Scope ofType(MaterialType type) {
+            return new Scope(Set.of(type), null, null);
+        }
+
+        public static Scope ofCity(String cityCode) {
+            return new Scope(null, cityCode, null);
+        }
+
+        public static Scope ofDepartment(String departmentCode) {
+            return new Scope(null, null, departmentCode);
+        }
+
+        public static Scope of(MaterialSearchDto search) {
+            return new Scope(search.resolveTypes(), search.getCityCode(), search.getDepartmentCode());
+        }
+
+        private boolean matches(MaterialChangedEvent.MaterialSnapshot material) {
+            return (types == null || types.contains(material.getType()))
+                    && (cityCode == null || material.getCityCode() == null || cityCode.equals(material.getCityCode()))
+                    && (departmentCode == null || material.getDepartmentCode() == null
+                    || departmentCode.equals(material.getDepartmentCode()));
+        }
+
+        /**
+         * Etiquetas de índice: el filtro más selectivo (ciudad, departamento o tipos) o "all"
+         */
+        private List<String> tags() {
+            if (cityCode != null) {
+                return List.of(cityTag(cityCode));
+            }
+            if (departmentCode != null) {
+                return List.of(departmentTag(departmentCode));
+            }
+            if (types != null) {
+                List<String> tags = new ArrayList<>(types.size());
+                types.forEach(type -> tags.add(typeTag(type)));
+                return tags;
+            }
+            return List.of(TAG_ALL);
+        }
+    }
+
+    /**
+     * Listado guardado: la lista de materiales serializada y los datos para armar la respuesta.
+     * El sobre (ApiResponseDto) se arma en cada respuesta, con su propia marca de tiempo.
+     */
+    public static final class CachedResponse {
+
+        private final String eTag;
+        private final String message;
+        private final String data;
+
+        public CachedResponse(String eTag, String message, String data) {
+            this.eTag = eTag;
+            this.message = message;
+            this.data = data;
+        }
+
+        public String getETag() { return eTag; }
+
+        public String getMessage() { return message; }
+
+        /**
+         * JSON de la lista de materiales
+         */
+        public String getData() { return data; }
+
+        /**
+         * Tamaño aproximado en memoria (2 bytes por carácter en el peor caso)
+         */
+        private long weight() {
+            return 2L * (eTag.length() + message.length() + data.length());
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final Scope scope;
+        private final CachedResponse response;
+        private final List<String> tags;
+        private final long weight;
+
+        private Entry(String key, Scope scope, CachedResponse response) {
+            this.key = key;
+            this.scope = scope;
+            this.response = response;
+            this.tags = scope.tags();
+            this.weight = response.weight() + 2L * key.length() + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package com.management.materials.cache;
+
+import com.management.materials.dto.response.MaterialSuggestionDto;
+import com.management.materials.event.MaterialChangedEvent;
+import com.management.materials.repository.MaterialRepository;
+import com.management.materials.repository.projection.MaterialTextRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido en memoria para sugerencias de autocompletado sobre el nombre y la descripción
+ * de los materiales. Se construye al iniciar la aplicación, se mantiene al día con los eventos
+ * {@link MaterialChangedEvent} confirmados y se reconcilia periódicamente con la base de datos.
+ * Las consultas se resuelven por prefijo de palabra sin acceder a JDBC.
+ */
+@Component
+public class MaterialSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialSuggestionIndex.class);
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TOKEN_LENGTH = 32;
+
+    /**
+     * Candidatos evaluados como máximo por consulta (acota el costo de prefijos muy cortos)
+     */
+    private static final int MAX_CANDIDATES = 10_000;
+
+    /**
+     * Diferencia tolerada entre fechas de modificación por la precisión de la base de datos
+     */
+    private static final Duration UPDATED_AT_TOLERANCE = Duration.ofMillis(1);
+
+    // Costo estimado en bytes de cada estructura del índice
+    private static final long DOCUMENT_BYTES = 96;
+    private static final long POSTING_BYTES = 48;
+    private static final long TOKEN_BYTES = 120;
+
+    private final MaterialRepository materialRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxMemoryBytes;
+    private final int maxLimit;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Protegidos por lock: índice vigente (null hasta la primera construcción) y
+    // cambios recibidos mientras se reconstruye, que se aplican antes de publicar el nuevo índice
+    private Index index;
+    private List<MaterialChangedEvent> pendingChanges;
+
+    public MaterialSuggestionIndex(MaterialRepository materialRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.materials.suggest.max-memory-mb:64}") long maxMemoryMb,
+                                   @Value("${app.materials.suggest.max-limit:50}") int maxLimit) {
+        this.materialRepository = materialRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxMemoryBytes = maxMemoryMb * 1024 * 1024;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Construye el índice al terminar el arranque de la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.error("No fue posible construir el índice de sugerencias: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compara el índice con la base de datos (cantidad y última modificación) y lo reconstruye
+     * si detecta cambios que no llegaron como eventos, p. ej. modificaciones directas en la tabla
+     */
+    @Scheduled(initialDelayString = "${app.materials.suggest.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.materials.suggest.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            if (!isReady()) {
+                rebuild();
+                return;
+            }
+
+            long databaseCount = materialRepository.count();
+            LocalDateTime databaseUpdatedAt = materialRepository.findMaxUpdatedAt();
+
+            long indexedCount;
+            LocalDateTime indexedUpdatedAt;
+            lock.readLock().lock();
+            try {
+                indexedCount = index.trackedCount();
+                indexedUpdatedAt = index.maxUpdatedAt;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            boolean stale = databaseUpdatedAt != null && (indexedUpdatedAt == null
+                    || databaseUpdatedAt.isAfter(indexedUpdatedAt.plus(UPDATED_AT_TOLERANCE)));
+            if (databaseCount != indexedCount || stale) {
+                logger.warn("Índice de sugerencias desactualizado (índice: {} materiales, base de datos: {}); " +
+                        "reconstruyendo", indexedCount, databaseCount);
+                rebuild();
+            } else {
+                logger.debug("Índice de sugerencias consistente con la base de datos ({} materiales)", indexedCount);
+            }
+        } catch (Exception e) {
+            logger.error("Error al reconciliar el índice de sugerencias: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica al índice un cambio de material una vez confirmada la transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+            if (index != null) {
+                index.apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos y lo publica de forma atómica
+     *
+     * @return Cantidad de materiales indexados
+     */
+    public synchronized int rebuild() {
+        long startNanos = System.nanoTime();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index next = new Index(maxMemoryBytes);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<MaterialTextRow> rows = materialRepository.streamTextRows()) {
+                    rows.forEach(row -> next.upsert(row.getId(), row.getName(), row.getDescription(),
+                            row.getUpdatedAt()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Aplicar los cambios confirmados durante la construcción (upsert/eliminación idempotentes)
+            pendingChanges.forEach(next::apply);
+            pendingChanges = null;
+            index = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!next.rejected.isEmpty()) {
+            logger.warn("Índice de sugerencias incompleto: {} materiales exceden el presupuesto de {} MB",
+                    next.rejected.size(), maxMemoryBytes / (1024 * 1024));
+        }
+        logger.info("Índice de sugerencias construido: {} materiales, {} palabras, ~{} KB en {} ms",
+                next.documents.size(), next.postings.size(), next.estimatedBytes / 1024,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return next.documents.size();
+    }
+
+    /**
+     * Indica si el índice ya fue construido al menos una vez
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugiere materiales cuyas palabras del nombre o la descripción comienzan por las palabras del texto.
+     * Se priorizan las coincidencias en el nombre y los nombres más cortos.
+     *
+     * @param text  Texto escrito por el usuario
+     * @param limit Cantidad máxima de sugerencias (acotada al máximo configurado)
+     * @return Sugerencias ordenadas por relevancia
+     */
+    public List<MaterialSuggestionDto> suggest(String text, int limit) {
+        String[] queryTokens = tokenize(text);
+        if (queryTokens.length == 0) {
+            throw new IllegalArgumentException("El texto de búsqueda no contiene palabras");
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, maxLimit));
+
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                throw new IllegalStateException("El índice de sugerencias aún no está disponible");
+            }
+            return index.suggest(queryTokens, boundedLimit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cantidad de materiales indexados
+     */
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.documents.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Memoria estimada del índice en bytes
+     */
+    public long getEstimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.estimatedBytes : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normaliza un texto a palabras en minúsculas sin tildes ni signos de puntuación
+     */
+    static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    /**
+     * Estructuras del índice; el acceso se sincroniza con el lock del componente
+     */
+    private static final class Index {
+
+        private final long maxBytes;
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+        // Materiales que no se indexaron por exceder el presupuesto de memoria
+        private final Set<Long> rejected = new HashSet<>();
+        private long estimatedBytes;
+        private LocalDateTime maxUpdatedAt;
+
+        private Index(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private void apply(MaterialChangedEvent event) {
+            MaterialChangedEvent.MaterialSnapshot after = event.getAfter();
+            if (after == null) {
+                remove(event.getMaterialId());
+            } else {
+                upsert(after.getId(), after.getName(), after.getDescription(), after.getUpdatedAt());
+            }
+        }
+
+        private void upsert(Long id, String name, String description, LocalDateTime updatedAt) {
+            remove(id);
+            if (updatedAt != null && (maxUpdatedAt == null || updatedAt.isAfter(maxUpdatedAt))) {
+                maxUpdatedAt = updatedAt;
+            }
+
+            String[] nameTokens = tokenize(name);
+            Set<String> tokens = new LinkedHashSet<>(Arrays.asList(nameTokens));
+            tokens.addAll(Arrays.asList(tokenize(description)));
+
+            long cost = DOCUMENT_BYTES + 2L * name.length();
+            for (String token : tokens) {
+                cost += POSTING_BYTES;
+                if (!postings.containsKey(token)) {
+                    cost += TOKEN_BYTES + 2L * token.length();
+                }
+            }
+            if (estimatedBytes + cost > maxBytes) {
+                rejected.add(id);
+                return;
+            }
+
+            documents.put(id, new Document(name, nameTokens, tokens.toArray(String[]::new)));
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+            }
+            estimatedBytes += cost;
+        }
+
+        private void remove(Long id) {
+            rejected.remove(id);
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+
+            long freed = DOCUMENT_BYTES + 2L * document.name.length();
+            for (String token : document.tokens) {
+                Set<Long> ids = postings.get(token);
+                ids.remove(id);
+                freed += POSTING_BYTES;
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                    freed += TOKEN_BYTES + 2L * token.length();
+                }
+            }
+            estimatedBytes -= freed;
+        }
+
+        private long trackedCount() {
+            return documents.size() + rejected.size();
+        }
+
+        private List<MaterialSuggestionDto> suggest(String[] queryTokens, int limit) {
+            // Intersección de los materiales que contienen una palabra con cada prefijo
+            Set<Long> candidates = null;
+            for (String prefix : queryTokens) {
+                Set<Long> matches = new HashSet<>();
+                for (Set<Long> ids : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                    for (Long id : ids) {
+                        if (candidates == null || candidates.contains(id)) {
+                            matches.add(id);
+                        }
+                    }
+                    if (matches.size() >= MAX_CANDIDATES) {
+                        break;
+                    }
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                candidates = matches;
+            }
+
+            List<Ranked> ranked = new ArrayList<>(candidates.size());
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                ranked.add(new Ranked(id, document, document.nameMatches(queryTokens)));
+            }
+            ranked.sort(Comparator.comparingInt((Ranked r) -> r.nameMatches).reversed()
+                    .thenComparingInt(r -> r.document.name.length())
+                    .thenComparing((Ranked r) -> r.id, Comparator.reverseOrder()));
+
+            return ranked.stream()
+                    .limit(limit)
+                    .map(r -> new MaterialSuggestionDto(r.id, r.document.name))
+                    .toList();
+        }
+    }
+
+    /**
+     * Material indexado: nombre original y palabras normalizadas
+     */
+    private static final class Document {
+
+        private final String name;
+        private final String[] nameTokens;
+        private final String[] tokens;
+
+        private Document(String name, String[] nameTokens, String[] tokens) {
+            this.name = name;
+            this.nameTokens = nameTokens;
+            this.tokens = tokens;
+        }
+
+        /**
+         * Cantidad de prefijos de la consulta que coinciden con alguna palabra del nombre
+         */
+        private int nameMatches(String[] queryTokens) {
+            int matches = 0;
+            for (String prefix : queryTokens) {
+                for (String token : nameTokens) {
+                    if (token.startsWith(prefix)) {
+                        matches++;
+                        break;
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+
+    private static final class Ranked {
+
+        private final Long id;
+        private final Document document;
+        private final int nameMatches;
+
+        private Ranked(Long id, Document document, int nameMatches) {
+            this.id = id;
+            this.document = document;
+            this.nameMatches = nameMatches;
+        }
+    }
+}
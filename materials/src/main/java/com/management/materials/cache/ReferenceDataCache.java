@@ -0,0 +1,267 @@
+package com.management.materials.cache;
+
+import com.management.materials.dto.response.CityResponseDto;
+import com.management.materials.dto.response.DepartmentResponseDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.repository.CityRepository;
+import com.management.materials.repository.DepartmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché en memoria de datos de referencia (departamentos y ciudades).
+ * Mantiene una instantánea inmutable y versionada con búsqueda O(1) por código,
+ * que se precarga al iniciar la aplicación y se reemplaza completa en cada refresco.
+ * Cada refresco vacía también las regiones de ciudades y departamentos de la caché de segundo nivel
+ * y el caché de consultas, para que ambos reflejen los cambios hechos directamente en la base de datos.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private final DepartmentRepository departmentRepository;
+    private final CityRepository cityRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ReferenceDataCache(DepartmentRepository departmentRepository,
+                              CityRepository cityRepository,
+                              EntityManagerFactory entityManagerFactory) {
+        this.departmentRepository = departmentRepository;
+        this.cityRepository = cityRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Precarga la caché al terminar el arranque de la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("No fue posible precargar los datos de referencia: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refresco periódico para recoger cambios hechos directamente en la base de datos
+     */
+    @Scheduled(initialDelayString = "${app.reference-data.refresh-interval-ms:3600000}",
+            fixedDelayString = "${app.reference-data.refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Error al refrescar los datos de referencia: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarga departamentos y ciudades desde la base de datos y publica una nueva versión
+     *
+     * @return Versión de la nueva instantánea
+     */
+    public synchronized long refresh() {
+        evictSecondLevelCache();
+        List<Department> departments = departmentRepository.findAllByOrderByNameAsc();
+        List<City> cities = cityRepository.findAllByOrderByNameAsc();
+
+        Map<String, DepartmentResponseDto> departmentsByCode = new LinkedHashMap<>();
+        for (Department department : departments) {
+            departmentsByCode.put(department.getCode(),
+                    new DepartmentResponseDto(department.getCode(), department.getName()));
+        }
+
+        Map<String, CityResponseDto> citiesByCode = new LinkedHashMap<>();
+        Map<String, List<CityResponseDto>> citiesByDepartment = new HashMap<>();
+        for (City city : cities) {
+            String departmentCode = city.getDepartment().getCode();
+            DepartmentResponseDto department = departmentsByCode.computeIfAbsent(departmentCode,
+                    code -> new DepartmentResponseDto(code, city.getDepartment().getName()));
+
+            CityResponseDto cityDto = new CityResponseDto(city.getCode(), city.getName(), department);
+            citiesByCode.put(city.getCode(), cityDto);
+            citiesByDepartment.computeIfAbsent(departmentCode, code -> new ArrayList<>()).add(cityDto);
+        }
+
+        Map<String, List<CityResponseDto>> immutableByDepartment = new HashMap<>();
+        citiesByDepartment.forEach((code, list) -> immutableByDepartment.put(code, List.copyOf(list)));
+
+        Snapshot next = new Snapshot(
+                snapshot.version + 1,
+                fingerprint(departmentsByCode.values(), citiesByCode.values()),
+                Collections.unmodifiableMap(departmentsByCode),
+                Collections.unmodifiableMap(citiesByCode),
+                Collections.unmodifiableMap(immutableByDepartment)
+        );
+        snapshot = next;
+
+        logger.info("Datos de referencia cargados (versión {}): {} departamentos, {} ciudades",
+                next.version, departmentsByCode.size(), citiesByCode.size());
+        return next.version;
+    }
+
+    private void evictSecondLevelCache() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(City.class);
+        cache.evictEntityData(Department.class);
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * Indica si la caché ya fue cargada al menos una vez
+     */
+    public boolean isLoaded() {
+        return snapshot.version > 0;
+    }
+
+    /**
+     * Versión de la instantánea vigente (0 si aún no se ha cargado)
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Huella del contenido de la instantánea vigente (null si aún no se ha cargado).
+     * A diferencia de la versión, solo cambia si cambian los datos y es igual en todas las instancias.
+     */
+    public String getFingerprint() {
+        return snapshot.fingerprint;
+    }
+
+    /**
+     * SHA-256 (truncado) de los códigos y nombres de departamentos y ciudades en orden
+     */
+    private static String fingerprint(Collection<DepartmentResponseDto> departments, Collection<CityResponseDto> cities) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+        for (DepartmentResponseDto department : departments) {
+            update(digest, "D", department.getCode(), department.getName());
+        }
+        for (CityResponseDto city : cities) {
+            update(digest, "C", city.getCode(), city.getName(), city.getDepartment().getCode());
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static void update(MessageDigest digest, String... values) {
+        for (String value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    public Optional<CityResponseDto> findCity(String code) {
+        return record(snapshot.citiesByCode.get(code));
+    }
+
+    public Optional<DepartmentResponseDto> findDepartment(String code) {
+        return record(snapshot.departmentsByCode.get(code));
+    }
+
+    private <T> Optional<T> record(T value) {
+        (value != null ? hits : misses).increment();
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Búsquedas por código resueltas desde la caché
+     */
+    public long getHits() { return hits.sum(); }
+
+    /**
+     * Búsquedas por código no encontradas (caché sin cargar o código inexistente)
+     */
+    public long getMisses() { return misses.sum(); }
+
+    /**
+     * Cantidad de ciudades y departamentos de la instantánea vigente
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current.cities.size() + current.departments.size();
+    }
+
+    /**
+     * Ciudades ordenadas por nombre
+     */
+    public List<CityResponseDto> getCities() {
+        return snapshot.cities;
+    }
+
+    /**
+     * Ciudades de un departamento, ordenadas por nombre
+     */
+    public List<CityResponseDto> getCitiesByDepartmentCode(String departmentCode) {
+        return snapshot.citiesByDepartment.getOrDefault(departmentCode, List.of());
+    }
+
+    /**
+     * Departamentos ordenados por nombre
+     */
+    public List<DepartmentResponseDto> getDepartments() {
+        return snapshot.departments;
+    }
+
+    /**
+     * Instantánea inmutable de los datos de referencia
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, null, Map.of(), Map.of(), Map.of());
+
+        private final long version;
+        private final String fingerprint;
+        private final Map<String, DepartmentResponseDto> departmentsByCode;
+        private final Map<String, CityResponseDto> citiesByCode;
+        private final Map<String, List<CityResponseDto>> citiesByDepartment;
+        private final List<DepartmentResponseDto> departments;
+        private final List<CityResponseDto> cities;
+
+        private Snapshot(long version,
+                         String fingerprint,
+                         Map<String, DepartmentResponseDto> departmentsByCode,
+                         Map<String, CityResponseDto> citiesByCode,
+                         Map<String, List<CityResponseDto>> citiesByDepartment) {
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.departmentsByCode = departmentsByCode;
+            this.citiesByCode = citiesByCode;
+            this.citiesByDepartment = citiesByDepartment;
+            this.departments = List.copyOf(departmentsByCode.values());
+            this.cities = List.copyOf(citiesByCode.values());
+        }
+    }
+}
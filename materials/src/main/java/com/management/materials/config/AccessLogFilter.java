@@ -0,0 +1,106 @@
+package com.management.materials.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de acceso de las peticiones a /api/**: una sola línea clave=valor por petición
+ * (logger "access") con método, ruta, estado, duración y consultas realizadas.
+ * Las peticiones se muestrean según app.access-log.sample-rate; los errores 5xx y las
+ * peticiones lentas se registran siempre.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLogger = LoggerFactory.getLogger("access");
+    private static final String START_ATTRIBUTE = AccessLogFilter.class.getName() + ".start";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowRequestNanos;
+
+    public AccessLogFilter(@Value("${app.access-log.enabled:true}") boolean enabled,
+                           @Value("${app.access-log.sample-rate:0.1}") double sampleRate,
+                           @Value("${app.access-log.slow-request-ms:1000}") long slowRequestMs) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    /**
+     * Las respuestas asíncronas se registran al terminar el último despacho
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!isAsyncStarted(request) && accessLogger.isInfoEnabled()) {
+                log(request, response, failed);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, boolean failed) {
+        long nanos = System.nanoTime() - (Long) request.getAttribute(START_ATTRIBUTE);
+        int status = failed && response.getStatus() < 400 ? 500 : response.getStatus();
+
+        boolean always = status >= 500 || (slowRequestNanos > 0 && nanos >= slowRequestNanos);
+        if (!always && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+
+        String route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern : "UNKNOWN";
+        RequestQueryStats stats = QueryBudgetFilter.statsOf(request);
+
+        StringBuilder line = new StringBuilder(192)
+                .append("method=").append(request.getMethod())
+                .append(" path=").append(request.getRequestURI())
+                .append(" route=").append(route)
+                .append(" status=").append(status)
+                .append(" duration_ms=").append(TimeUnit.NANOSECONDS.toMillis(nanos));
+        if (stats != null) {
+            line.append(" statements=").append(stats.getStatements())
+                    .append(" jdbc_ms=").append(TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()))
+                    .append(" rows=").append(stats.getRows());
+            if (stats.getHandler() != null) {
+                line.append(" handler=").append(stats.getHandler());
+            }
+        }
+        line.append(" sampled=").append(!always);
+
+        accessLogger.info(line.toString());
+    }
+}
@@ -0,0 +1,183 @@
+package com.management.materials.config;
+
+import com.management.materials.cache.MaterialResponseCache;
+import com.management.materials.cache.MaterialSuggestionIndex;
+import com.management.materials.cache.ReferenceDataCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Registra en Micrometer los indicadores que ya mantienen los componentes de la aplicación:
+ * límite de conexiones JDBC, pool HTTP y circuit breaker del servicio de autenticación y cachés
+ * en memoria. Todos se leen al exportar, sin costo en el camino de las peticiones.
+ * El pool de Hikari, las peticiones HTTP y las estadísticas de Hibernate (incluida la caché de
+ * segundo nivel) los registra Actuator.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+    private final PoolingHttpClientConnectionManager authConnectionManager;
+    private final CircuitBreaker authCircuitBreaker;
+    private final TokenValidationCache tokenValidationCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final MaterialSuggestionIndex suggestionIndex;
+    private final MaterialResponseCache responseCache;
+
+    public ApplicationMetrics(DataSource dataSource,
+                              PoolingHttpClientConnectionManager authConnectionManager,
+                              CircuitBreaker authCircuitBreaker,
+                              TokenValidationCache tokenValidationCache,
+                              ReferenceDataCache referenceDataCache,
+                              MaterialSuggestionIndex suggestionIndex,
+                              MaterialResponseCache responseCache) {
+        this.dataSource = dataSource;
+        this.authConnectionManager = authConnectionManager;
+        this.authCircuitBreaker = authCircuitBreaker;
+        this.tokenValidationCache = tokenValidationCache;
+        this.referenceDataCache = referenceDataCache;
+        this.suggestionIndex = suggestionIndex;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindDataSource(registry);
+        bindAuthClient(registry);
+        bindCaches(registry);
+        bindResponseCache(registry);
+    }
+
+    private void bindDataSource(MeterRegistry registry) {
+        ConnectionLimitingDataSource limiting = unwrap(dataSource, ConnectionLimitingDataSource.class);
+        if (limiting == null) {
+            return;
+        }
+        Gauge.builder("jdbc.connection.permits.available", limiting, ConnectionLimitingDataSource::getAvailablePermits)
+                .description("Permisos de conexión JDBC disponibles (hilos virtuales)")
+                .register(registry);
+        Gauge.builder("jdbc.connection.permits.waiting", limiting, ConnectionLimitingDataSource::getQueuedThreads)
+                .description("Hilos esperando un permiso de conexión JDBC")
+                .register(registry);
+    }
+
+    /**
+     * Obtiene el DataSource del tipo indicado a través de los envoltorios (medición, límite de conexiones)
+     */
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private void bindAuthClient(MeterRegistry registry) {
+        new PoolingHttpClientConnectionManagerMetricsBinder(authConnectionManager, "auth-service").bindTo(registry);
+
+        CircuitBreaker circuitBreaker = authCircuitBreaker;
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("circuit.breaker.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("Estado del circuit breaker (1 = estado vigente)")
+                    .tags("name", circuitBreaker.getName(), "state", state.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder("circuit.breaker.rejected.calls", circuitBreaker, CircuitBreaker::getRejectedCalls)
+                .description("Llamadas rechazadas con el circuito abierto")
+                .tag("name", circuitBreaker.getName())
+                .register(registry);
+    }
+
+    private void bindCaches(MeterRegistry registry) {
+        String tokenCache = "auth-token";
+        cacheGets(registry, tokenCache, tokenValidationCache, TokenValidationCache::getHits, TokenValidationCache::getMisses);
+        FunctionCounter.builder("cache.evictions", tokenValidationCache, TokenValidationCache::getEvictions)
+                .description("Entradas expulsadas de la caché")
+                .tag("cache", tokenCache)
+                .register(registry);
+        cacheGauge(registry, "cache.size", "Entradas en la caché", tokenCache,
+                tokenValidationCache, TokenValidationCache::size);
+        cacheGauge(registry, "cache.hit.ratio", "Proporción de aciertos de la caché", tokenCache,
+                tokenValidationCache, TokenValidationCache::getHitRatio);
+
+        String referenceCache = "reference-data";
+        cacheGets(registry, referenceCache, referenceDataCache, ReferenceDataCache::getHits, ReferenceDataCache::getMisses);
+        cacheGauge(registry, "cache.size", "Entradas en la caché", referenceCache,
+                referenceDataCache, ReferenceDataCache::size);
+        cacheGauge(registry, "cache.hit.ratio", "Proporción de aciertos de la caché", referenceCache,
+                referenceDataCache, cache -> {
+                    long hits = cache.getHits();
+                    long total = hits + cache.getMisses();
+                    return total == 0 ? 0.0 : (double) hits / total;
+                });
+
+        cacheGauge(registry, "cache.size", "Entradas en la caché", "material-suggest",
+                suggestionIndex, MaterialSuggestionIndex::getDocumentCount);
+        Gauge.builder("material.suggest.index.bytes", suggestionIndex, MaterialSuggestionIndex::getEstimatedBytes)
+                .description("Memoria estimada del índice de sugerencias")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("material.suggest.index.ready", suggestionIndex, index -> index.isReady() ? 1 : 0)
+                .description("Índice de sugerencias disponible (1) o en construcción (0)")
+                .register(registry);
+    }
+
+    private void bindResponseCache(MeterRegistry registry) {
+        String cache = "material-responses";
+        cacheGets(registry, cache, responseCache, MaterialResponseCache::getHits, MaterialResponseCache::getMisses);
+        FunctionCounter.builder("cache.evictions", responseCache, MaterialResponseCache::getEvictions)
+                .description("Entradas expulsadas de la caché")
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("cache.invalidations", responseCache, MaterialResponseCache::getInvalidations)
+                .description("Entradas invalidadas por cambios de datos")
+                .tag("cache", cache)
+                .register(registry);
+        cacheGauge(registry, "cache.size", "Entradas en la caché", cache,
+                responseCache, MaterialResponseCache::size);
+        cacheGauge(registry, "cache.hit.ratio", "Proporción de aciertos de la caché", cache,
+                responseCache, MaterialResponseCache::getHitRatio);
+        Gauge.builder("cache.memory", responseCache, MaterialResponseCache::getBytes)
+                .description("Memoria ocupada por las entradas de la caché")
+                .baseUnit("bytes")
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("cache.memory.max", responseCache, MaterialResponseCache::getMaxBytes)
+                .description("Memoria máxima de la caché")
+                .baseUnit("bytes")
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    /**
+     * Aciertos y fallos con los nombres y etiquetas de los binders de caché de Micrometer (cache.gets)
+     */
+    private static <T> void cacheGets(MeterRegistry registry, String cache, T source,
+                                      ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("cache.gets", source, hits)
+                .description("Consultas a la caché por resultado")
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", source, misses)
+                .description("Consultas a la caché por resultado")
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+    }
+
+    private static <T> void cacheGauge(MeterRegistry registry, String name, String description, String cache,
+                                       T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value)
+                .description(description)
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
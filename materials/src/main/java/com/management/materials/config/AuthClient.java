@@ -3,13 +3,18 @@ package com.management.materials.config;
 
 import com.management.materials.dto.request.UserInfo;
 import com.management.materials.dto.response.AuthValidationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 
 /**
  * Cliente para comunicarse con el microservicio de autenticación
@@ -23,61 +28,51 @@ public class AuthClient {
     private String authServiceUrl;
 
     private final RestTemplate restTemplate;
+    private final TokenValidationCache tokenValidationCache;
+    private final CircuitBreaker authCircuitBreaker;
+    private final MeterRegistry meterRegistry;
 
-    public AuthClient(RestTemplate restTemplate) {
+    public AuthClient(RestTemplate restTemplate, TokenValidationCache tokenValidationCache,
+                      CircuitBreaker authCircuitBreaker, MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.tokenValidationCache = tokenValidationCache;
+        this.authCircuitBreaker = authCircuitBreaker;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
-     * Valida un token JWT contra el microservicio de autenticación
+     * Valida un token y obtiene la información del usuario con una sola llamada
+     * al microservicio de autenticación. Los resultados válidos se guardan en caché
+     * hasta el TTL configurado, sin superar la expiración del token.
      *
      * @param token Token JWT a validar
-     * @return true si el token es válido, false en caso contrario
+     * @return Información del usuario o null si el token no es válido
      */
-    public boolean validateToken(String token) {
-        try {
-            String url = authServiceUrl + "/api/auth/validate";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            logger.debug("Validando token contra: {}", url);
-
-            ResponseEntity<AuthValidationResponse> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    AuthValidationResponse.class
-            );
-
-            boolean isValid = response.getStatusCode() == HttpStatus.OK &&
-                    response.getBody() != null &&
-                    response.getBody().isSuccess();
-
-            if (isValid) {
-                logger.debug("Token validado exitosamente");
-            } else {
-                logger.warn("Token inválido o respuesta inesperada");
-            }
-
-            return isValid;
+    public UserInfo authenticate(String token) {
+        UserInfo cached = tokenValidationCache.get(token);
+        if (cached != null) {
+            logger.debug("Token validado desde caché");
+            return cached;
+        }
 
-        } catch (Exception e) {
-            logger.error("Error al validar token: {}", e.getMessage());
-            return false;
+        UserInfo userInfo = fetchUserInfo(token);
+        if (userInfo != null) {
+            tokenValidationCache.put(token, userInfo);
         }
+
+        return userInfo;
     }
 
     /**
-     * Obtiene información del usuario desde el token
-     *
-     * @param token Token JWT
-     * @return Información del usuario o null si hay error
+     * Llama a /api/auth/validate y retorna la información del usuario si el token es válido
      */
-    public UserInfo getUserInfo(String token) {
+    private UserInfo fetchUserInfo(String token) {
+        if (!authCircuitBreaker.allowRequest()) {
+            logger.warn("Circuito hacia el servicio de autenticación abierto; se rechaza la validación");
+            return null;
+        }
+
+        long start = System.nanoTime();
         try {
             String url = authServiceUrl + "/api/auth/validate";
 
@@ -87,28 +82,52 @@ public class AuthClient {
 
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
+            logger.debug("Validando token contra: {}", url);
+
             ResponseEntity<AuthValidationResponse> response = restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     AuthValidationResponse.class
             );
+            authCircuitBreaker.recordSuccess();
 
-            if (response.getStatusCode() == HttpStatus.OK &&
+            boolean isValid = response.getStatusCode() == HttpStatus.OK &&
                     response.getBody() != null &&
-                    response.getBody().isSuccess()) {
+                    response.getBody().isSuccess() &&
+                    response.getBody().getData() != null;
 
+            recordCall(isValid ? "valid" : "invalid", start);
+            if (isValid) {
+                logger.debug("Token validado exitosamente");
                 return response.getBody().getData();
             }
 
+            logger.warn("Token inválido o respuesta inesperada");
             return null;
 
+        } catch (HttpClientErrorException e) {
+            // El servicio respondió (p. ej. 401): el token es inválido, no hay fallo de disponibilidad
+            authCircuitBreaker.recordSuccess();
+            recordCall("invalid", start);
+            logger.debug("Token rechazado por el servicio de autenticación: {}", e.getStatusCode());
+            return null;
         } catch (Exception e) {
-            logger.error("Error al obtener información del usuario: {}", e.getMessage());
+            authCircuitBreaker.recordFailure();
+            recordCall("error", start);
+            logger.error("Error al validar token: {}", e.getMessage());
             return null;
         }
     }
 
-
-
-}
\ No newline at end of file
+    /**
+     * Registra la duración de una llamada de validación según su resultado
+     */
+    private void recordCall(String outcome, long start) {
+        Timer.builder("auth.client.requests")
+                .description("Duración de las validaciones de token contra el servicio de autenticación")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.management.materials.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker simple por fallos consecutivos.
+ * CLOSED: deja pasar las llamadas. OPEN: las rechaza durante openDurationMs.
+ * HALF_OPEN: deja pasar una llamada de prueba que decide si se cierra o se reabre.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * Indica si se permite realizar una llamada
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt.get() >= openDurationMs) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            rejectedCalls.incrementAndGet();
+            return false;
+        }
+        if (state == State.HALF_OPEN) {
+            // Ya hay una llamada de prueba en curso
+            rejectedCalls.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures.set(0);
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        if (state == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            state = State.OPEN;
+            openedAt.set(System.currentTimeMillis());
+        }
+    }
+
+    public String getName() { return name; }
+
+    public State getState() { return state; }
+
+    public long getRejectedCalls() { return rejectedCalls.get(); }
+}
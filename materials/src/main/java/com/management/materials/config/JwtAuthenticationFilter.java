@@ -30,9 +30,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final AuthClient authClient;
+    private final LocalJwtVerifier localJwtVerifier;
 
-    public JwtAuthenticationFilter(AuthClient authClient) {
+    public JwtAuthenticationFilter(AuthClient authClient, LocalJwtVerifier localJwtVerifier) {
         this.authClient = authClient;
+        this.localJwtVerifier = localJwtVerifier;
     }
 
     @Override
@@ -44,13 +46,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = extractTokenFromRequest(request);
 
             if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (authClient.validateToken(token)) {
-                    UserInfo userInfo = authClient.getUserInfo(token);
+                UserInfo userInfo = resolveUserInfo(token);
 
-                    if (userInfo != null) {
-                        setAuthenticationInContext(request, userInfo);
-                        logger.debug("Usuario autenticado: {}", userInfo.getUsername());
-                    }
+                if (userInfo != null) {
+                    setAuthenticationInContext(request, userInfo);
+                    logger.debug("Usuario autenticado: {}", userInfo.getUsername());
                 } else {
                     logger.debug("Token inválido o expirado");
                 }
@@ -62,6 +62,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Valida el token localmente si está habilitado; el microservicio de
+     * autenticación solo se consulta cuando la verificación local no es concluyente
+     */
+    private UserInfo resolveUserInfo(String token) {
+        if (localJwtVerifier.isEnabled()) {
+            LocalJwtVerifier.Result result = localJwtVerifier.verify(token);
+
+            if (result.isResolved() || !localJwtVerifier.isRemoteFallbackEnabled()) {
+                return result.getUserInfo();
+            }
+        }
+
+        return authClient.authenticate(token);
+    }
+
     /**
      * Extrae el token del header Authorization
      */
@@ -89,9 +105,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Crea las autoridades basadas en roles y permisos del usuario
+     * Crea las autoridades basadas en roles y permisos del usuario.
+     * Visible en el paquete para los benchmarks JMH.
      */
-    private List<SimpleGrantedAuthority> createAuthorities(UserInfo userInfo) {
+    List<SimpleGrantedAuthority> createAuthorities(UserInfo userInfo) {
         List<SimpleGrantedAuthority> authorities = Arrays.stream(userInfo.getRoles())
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                 .collect(Collectors.toList());
@@ -0,0 +1,327 @@
+package com.management.materials.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.management.materials.dto.request.UserInfo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verificador local de tokens JWT (firma, expiración y claims) para no depender
+ * del microservicio de autenticación en cada petición.
+ * Soporta un secreto HMAC, una llave pública RSA fija y/o un JWKS remoto que se
+ * refresca periódicamente. Solo se activa con auth.jwt.mode=local.
+ */
+@Component
+public class LocalJwtVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalJwtVerifier.class);
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final long MIN_JWKS_RELOAD_INTERVAL_MS = 60_000;
+
+    private final RestTemplate restTemplate;
+    private final boolean enabled;
+    private final boolean remoteFallback;
+    private final String jwksUrl;
+    private final Key hmacKey;
+    private final PublicKey publicKey;
+    private final JwtParser parser;
+
+    private volatile Map<String, PublicKey> jwksKeys = Map.of();
+    private volatile long lastJwksLoad;
+
+    public LocalJwtVerifier(RestTemplate restTemplate,
+                            @Value("${auth.jwt.mode:remote}") String mode,
+                            @Value("${auth.jwt.remote-fallback:true}") boolean remoteFallback,
+                            @Value("${auth.jwt.secret:}") String secret,
+                            @Value("${auth.jwt.public-key:}") String publicKey,
+                            @Value("${auth.jwt.jwks-url:}") String jwksUrl,
+                            @Value("${auth.jwt.issuer:}") String issuer,
+                            @Value("${auth.jwt.allowed-clock-skew-seconds:30}") long clockSkewSeconds) {
+        this.restTemplate = restTemplate;
+        this.enabled = "local".equalsIgnoreCase(mode);
+        this.remoteFallback = remoteFallback;
+        this.jwksUrl = jwksUrl;
+        this.hmacKey = secret.isBlank() ? null : Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        this.publicKey = publicKey.isBlank() ? null : parseX509PublicKey(publicKey);
+
+        JwtParserBuilder builder = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyResolver())
+                .setAllowedClockSkewSeconds(clockSkewSeconds);
+        if (!issuer.isBlank()) {
+            builder.requireIssuer(issuer);
+        }
+        this.parser = builder.build();
+
+        if (enabled && hmacKey == null && this.publicKey == null && jwksUrl.isBlank()) {
+            logger.warn("auth.jwt.mode=local sin llaves configuradas: todos los tokens se validarán de forma remota");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRemoteFallbackEnabled() {
+        return remoteFallback;
+    }
+
+    /**
+     * Verifica un token localmente
+     *
+     * @param token Token JWT
+     * @return Resultado de la verificación; UNRESOLVED si no hay llave para decidir
+     */
+    public Result verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Result.valid(toUserInfo(claims));
+        } catch (UnresolvedKeyException e) {
+            logger.debug("Sin llave local para el token: {}", e.getMessage());
+            return Result.UNRESOLVED;
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Token rechazado localmente: {}", e.getMessage());
+            return Result.INVALID;
+        }
+    }
+
+    /**
+     * Carga el JWKS al iniciar la aplicación
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadKeysOnStartup() {
+        if (enabled && !jwksUrl.isBlank()) {
+            reloadJwks();
+        }
+    }
+
+    /**
+     * Refresca periódicamente el JWKS para soportar rotación de llaves
+     */
+    @Scheduled(initialDelayString = "${auth.jwt.jwks-refresh-ms:300000}",
+            fixedDelayString = "${auth.jwt.jwks-refresh-ms:300000}")
+    public void scheduledJwksRefresh() {
+        if (enabled && !jwksUrl.isBlank()) {
+            reloadJwks();
+        }
+    }
+
+    private synchronized void reloadJwks() {
+        try {
+            JsonNode jwks = restTemplate.getForObject(jwksUrl, JsonNode.class);
+            Map<String, PublicKey> keys = new HashMap<>();
+
+            if (jwks != null && jwks.has("keys")) {
+                for (JsonNode jwk : jwks.get("keys")) {
+                    if ("RSA".equals(jwk.path("kty").asText()) && jwk.hasNonNull("kid")) {
+                        keys.put(jwk.get("kid").asText(), parseRsaJwk(jwk));
+                    }
+                }
+            }
+
+            jwksKeys = Map.copyOf(keys);
+            logger.info("JWKS cargado desde {}: {} llaves", jwksUrl, keys.size());
+        } catch (Exception e) {
+            logger.error("Error al cargar el JWKS desde {}: {}", jwksUrl, e.getMessage());
+        } finally {
+            lastJwksLoad = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Recarga el JWKS por un "kid" desconocido. Intervalo y llave se vuelven a comprobar dentro
+     * del lock: los hilos que esperaban mientras otro recargaba usan esa misma descarga
+     *
+     * @param keyId Identificador de la llave buscada
+     * @return Llave encontrada o null si el JWKS no la contiene
+     */
+    private synchronized PublicKey reloadJwksForKey(String keyId) {
+        PublicKey key = jwksKeys.get(keyId);
+        if (key == null && System.currentTimeMillis() - lastJwksLoad > MIN_JWKS_RELOAD_INTERVAL_MS) {
+            reloadJwks();
+            key = jwksKeys.get(keyId);
+        }
+        return key;
+    }
+
+    /**
+     * Mapea los claims del token a UserInfo
+     */
+    private UserInfo toUserInfo(Claims claims) {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setUsername(firstString(claims, "username", Claims.SUBJECT));
+        userInfo.setEmail(firstString(claims, "email"));
+        userInfo.setFirstName(firstString(claims, "firstName", "given_name"));
+        userInfo.setLastName(firstString(claims, "lastName", "family_name"));
+
+        Object id = claims.containsKey("userId") ? claims.get("userId") : claims.get("id");
+        if (id instanceof Number number) {
+            userInfo.setId(number.longValue());
+        } else if (id != null) {
+            try {
+                userInfo.setId(Long.valueOf(id.toString()));
+            } catch (NumberFormatException e) {
+                logger.debug("Claim de ID no numérico: {}", id);
+            }
+        }
+
+        List<String> roles = new ArrayList<>();
+        for (String role : toStrings(claims.get("roles"))) {
+            roles.add(role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role);
+        }
+        userInfo.setRoles(roles.toArray(new String[0]));
+
+        Object permissions = claims.containsKey("permissions") ? claims.get("permissions") : claims.get("authorities");
+        userInfo.setPermissions(toStrings(permissions).toArray(new String[0]));
+
+        return userInfo;
+    }
+
+    private static String firstString(Claims claims, String... names) {
+        for (String name : names) {
+            Object value = claims.get(name);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Acepta claims como lista JSON o como cadena separada por comas
+     */
+    private static List<String> toStrings(Object value) {
+        List<String> result = new ArrayList<>();
+        if (value instanceof Collection<?> collection) {
+            collection.stream().filter(item -> item != null).forEach(item -> result.add(item.toString()));
+        } else if (value != null) {
+            for (String item : value.toString().split(",")) {
+                if (!item.isBlank()) {
+                    result.add(item.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PublicKey parseX509PublicKey(String base64) {
+        try {
+            String normalized = base64
+                    .replace("-----BEGIN PUBLIC KEY-----", "")
+                    .replace("-----END PUBLIC KEY-----", "")
+                    .replaceAll("\\s", "");
+            X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getDecoder().decode(normalized));
+            return KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (Exception e) {
+            throw new IllegalStateException("auth.jwt.public-key no es una llave pública RSA válida", e);
+        }
+    }
+
+    private static PublicKey parseRsaJwk(JsonNode jwk) throws Exception {
+        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("n").asText()));
+        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("e").asText()));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+
+    /**
+     * Resuelve la llave de verificación según el "kid" y el algoritmo del token
+     */
+    private class KeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String algorithm = header.getAlgorithm();
+
+            if (algorithm != null && algorithm.startsWith("HS")) {
+                if (hmacKey == null) {
+                    throw new UnresolvedKeyException("No hay secreto HMAC configurado");
+                }
+                return hmacKey;
+            }
+
+            String keyId = header.getKeyId();
+            if (keyId != null && !jwksUrl.isBlank()) {
+                PublicKey key = jwksKeys.get(keyId);
+                if (key == null && System.currentTimeMillis() - lastJwksLoad > MIN_JWKS_RELOAD_INTERVAL_MS) {
+                    // Posible rotación de llaves: recargar el JWKS una vez
+                    key = reloadJwksForKey(keyId);
+                }
+                if (key != null) {
+                    return key;
+                }
+            }
+
+            if (publicKey != null) {
+                return publicKey;
+            }
+
+            throw new UnresolvedKeyException("No hay llave local para kid=" + keyId);
+        }
+    }
+
+    /**
+     * Indica que el token no puede verificarse localmente por falta de llave
+     */
+    private static class UnresolvedKeyException extends RuntimeException {
+        UnresolvedKeyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Resultado de la verificación local
+     */
+    public static final class Result {
+
+        static final Result INVALID = new Result(true, null);
+        static final Result UNRESOLVED = new Result(false, null);
+
+        private final boolean resolved;
+        private final UserInfo userInfo;
+
+        private Result(boolean resolved, UserInfo userInfo) {
+            this.resolved = resolved;
+            this.userInfo = userInfo;
+        }
+
+        static Result valid(UserInfo userInfo) {
+            return new Result(true, userInfo);
+        }
+
+        /**
+         * true si la verificación local fue concluyente (válido o inválido)
+         */
+        public boolean isResolved() { return resolved; }
+
+        /**
+         * Usuario del token, o null si el token es inválido o no se pudo resolver
+         */
+        public UserInfo getUserInfo() { return userInfo; }
+    }
+}
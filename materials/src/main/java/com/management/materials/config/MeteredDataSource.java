@@ -0,0 +1,104 @@
+package com.management.materials.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mide a nivel JDBC el tiempo de ejecución y las filas leídas de cada sentencia
+ * y los acumula en la medición de la petición en curso (RequestQueryStats).
+ * Los hilos sin medición en curso (tareas programadas, importaciones) reciben las sentencias
+ * originales, sin costo adicional.
+ */
+public class MeteredDataSource extends DelegatingDataSource {
+
+    public MeteredDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        RequestQueryStats stats = RequestQueryStats.current();
+                        if (stats != null) {
+                            // prepareStatement/prepareCall reciben el SQL; createStatement lo recibe al ejecutar
+                            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                            return wrapStatement(statement, method.getReturnType(), sql, stats);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrapStatement(Statement target, Class<?> type, String preparedSql, RequestQueryStats stats) {
+        RequestQueryStats.StatementStats[] last = new RequestQueryStats.StatementStats[1];
+        return Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("execute")) {
+                        String sql = preparedSql != null ? preparedSql
+                                : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        long start = System.nanoTime();
+                        try {
+                            Object result = invoke(target, method, args);
+                            last[0] = stats.execution(sql, System.nanoTime() - start);
+                            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats, last[0]) : result;
+                        } catch (Throwable e) {
+                            stats.execution(sql, System.nanoTime() - start);
+                            throw e;
+                        }
+                    }
+
+                    Object result = invoke(target, method, args);
+                    if ("getResultSet".equals(name) && result instanceof ResultSet resultSet && last[0] != null) {
+                        return wrapResultSet(resultSet, stats, last[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet target, RequestQueryStats stats,
+                                           RequestQueryStats.StatementStats statement) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                        stats.rowRead(statement);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.management.materials.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración de la medición de consultas por petición: sentencias y cargas de entidades de
+ * Hibernate, tiempo JDBC y filas leídas, registradas en Micrometer por endpoint
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatsInterceptor(meterRegistry.getObject()))
+                .addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public QueryStatsInspector queryStatsInspector() {
+        return new QueryStatsInspector();
+    }
+
+    /**
+     * Registra el contador de sentencias por petición como StatementInspector de Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer(QueryStatsInspector queryStatsInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryStatsInspector);
+    }
+
+    /**
+     * Registra el oyente de carga de entidades cuando la fábrica de sesiones ya existe
+     */
+    @Bean
+    public SmartInitializingSingleton queryStatsInspectorBinder(QueryStatsInspector queryStatsInspector,
+                                                                EntityManagerFactory entityManagerFactory) {
+        return () -> queryStatsInspector.bind(entityManagerFactory);
+    }
+
+    /**
+     * Envuelve el DataSource para medir tiempo JDBC y filas leídas por petición (ver QueryBudgetFilter)
+     */
+    @Bean
+    public static BeanPostProcessor meteredDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof MeteredDataSource) {
+                    return bean;
+                }
+                return new MeteredDataSource(dataSource);
+            }
+        };
+    }
+}
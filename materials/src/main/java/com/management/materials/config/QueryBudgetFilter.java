@@ -0,0 +1,155 @@
+package com.management.materials.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que mide las consultas de cada petición a /api/** (sentencias de Hibernate, tiempo JDBC
+ * y filas leídas) y avisa cuando se superan los presupuestos configurados o una sentencia es lenta,
+ * indicando el método del controlador y las huellas de SQL responsables.
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+    private static final String STATS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final long maxJdbcNanos;
+    private final long maxRows;
+    private final long slowStatementNanos;
+    private final int loggedStatements;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${app.query-budget.enabled:true}") boolean enabled,
+                             @Value("${app.query-budget.max-statements:50}") int maxStatements,
+                             @Value("${app.query-budget.max-jdbc-time-ms:1000}") long maxJdbcTimeMs,
+                             @Value("${app.query-budget.max-rows:20000}") long maxRows,
+                             @Value("${app.query-budget.slow-statement-ms:250}") long slowStatementMs,
+                             @Value("${app.query-budget.logged-statements:5}") int loggedStatements) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxJdbcNanos = TimeUnit.MILLISECONDS.toNanos(maxJdbcTimeMs);
+        this.maxRows = maxRows;
+        this.slowStatementNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMs);
+        this.loggedStatements = loggedStatements;
+    }
+
+    /**
+     * Medición de consultas de la petición (null si la petición no pasó por este filtro)
+     */
+    static RequestQueryStats statsOf(HttpServletRequest request) {
+        return request.getAttribute(STATS_ATTRIBUTE) instanceof RequestQueryStats stats ? stats : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    /**
+     * Las respuestas asíncronas se evalúan al terminar el último despacho
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestQueryStats stats;
+        if (isAsyncDispatch(request) && request.getAttribute(STATS_ATTRIBUTE) instanceof RequestQueryStats previous) {
+            stats = previous;
+            RequestQueryStats.resume(stats);
+        } else {
+            stats = RequestQueryStats.start();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            if (!isAsyncStarted(request) && enabled) {
+                evaluate(request, stats);
+            }
+        }
+    }
+
+    private void evaluate(HttpServletRequest request, RequestQueryStats stats) {
+        String uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern : "UNKNOWN";
+
+        List<String> exceeded = new ArrayList<>(3);
+        if (maxStatements > 0 && stats.getStatements() > maxStatements) {
+            exceeded.add("statements");
+        }
+        if (maxJdbcNanos > 0 && stats.getJdbcNanos() > maxJdbcNanos) {
+            exceeded.add("jdbc-time");
+        }
+        if (maxRows > 0 && stats.getRows() > maxRows) {
+            exceeded.add("rows");
+        }
+
+        List<RequestQueryStats.StatementStats> statements = stats.getStatementsByTime();
+        List<RequestQueryStats.StatementStats> slow = slowStatementNanos > 0
+                ? statements.stream().filter(statement -> statement.getMaxNanos() > slowStatementNanos).toList()
+                : List.of();
+
+        if (exceeded.isEmpty() && slow.isEmpty()) {
+            return;
+        }
+
+        String handler = stats.getHandler() != null ? stats.getHandler() : "sin controlador";
+        for (String budget : exceeded) {
+            Counter.builder("query.budget.exceeded")
+                    .description("Peticiones que superaron un presupuesto de consultas")
+                    .tags("uri", uri, "budget", budget)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        if (!slow.isEmpty()) {
+            Counter.builder("jdbc.slow.statements")
+                    .description("Sentencias SQL que superaron el umbral de lentitud")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment(slow.size());
+        }
+
+        StringBuilder detail = new StringBuilder();
+        List<RequestQueryStats.StatementStats> logged = exceeded.isEmpty() ? slow : statements;
+        logged.stream().limit(loggedStatements).forEach(statement -> detail.append("\n  ")
+                .append(statement.getExecutions()).append("x, ")
+                .append(TimeUnit.NANOSECONDS.toMillis(statement.getNanos())).append(" ms (máx ")
+                .append(TimeUnit.NANOSECONDS.toMillis(statement.getMaxNanos())).append(" ms), ")
+                .append(statement.getRows()).append(" filas: ")
+                .append(statement.getFingerprint()));
+
+        logger.warn("{} en {} {} [{}]: {} sentencias, {} ejecuciones JDBC, {} ms JDBC, {} filas, {} entidades{}",
+                exceeded.isEmpty() ? "Sentencias lentas" : "Presupuesto de consultas excedido " + exceeded,
+                request.getMethod(), uri, handler,
+                stats.getStatements(), stats.getExecutions(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()),
+                stats.getRows(), stats.getEntityLoads(), detail);
+    }
+}
@@ -0,0 +1,34 @@
+package com.management.materials.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL preparadas por Hibernate y las entidades cargadas en la petición HTTP
+ * en curso (ver RequestQueryStats). Los totales de la aplicación los exporta el binder de
+ * Micrometer de Hibernate (hibernate.generate_statistics).
+ */
+public class QueryStatsInspector implements StatementInspector {
+
+    /**
+     * Se invoca por cada sentencia antes de prepararla; el SQL no se modifica
+     */
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.statementPrepared();
+        return sql;
+    }
+
+    /**
+     * Registra el oyente de carga de entidades en la fábrica de sesiones ya construida
+     */
+    public void bind(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, event -> RequestQueryStats.entityLoaded());
+    }
+}
@@ -0,0 +1,84 @@
+package com.management.materials.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra, por método HTTP y patrón de URI, las sentencias SQL, entidades cargadas, tiempo JDBC
+ * y filas leídas de cada petición atendida por un controlador (medición que inicia QueryBudgetFilter).
+ * La latencia de las peticiones la mide Actuator (http.server.requests).
+ */
+public class QueryStatsInterceptor implements HandlerInterceptor {
+
+    /**
+     * Límites de los histogramas de cantidades por petición (sentencias SQL, entidades cargadas)
+     */
+    private static final double[] COUNT_BUCKETS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1000
+    };
+
+    /**
+     * Límites de los histogramas de filas leídas por petición
+     */
+    private static final double[] ROW_BUCKETS = {
+            1, 10, 50, 100, 500, 1000, 5000, 10000, 50000, 100000
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && handler instanceof HandlerMethod handlerMethod) {
+            stats.setHandler(handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null || !(handler instanceof HandlerMethod)) {
+            return;
+        }
+
+        String method = request.getMethod();
+        String uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern : "UNKNOWN";
+
+        summary("http.server.requests.statements", "Sentencias SQL por petición HTTP", COUNT_BUCKETS, method, uri)
+                .record(stats.getStatements());
+        summary("http.server.requests.entity.loads", "Entidades cargadas por petición HTTP", COUNT_BUCKETS, method, uri)
+                .record(stats.getEntityLoads());
+        summary("http.server.requests.rows", "Filas leídas por petición HTTP", ROW_BUCKETS, method, uri)
+                .record(stats.getRows());
+        Timer.builder("http.server.requests.jdbc")
+                .description("Tiempo JDBC por petición HTTP")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, String description, double[] buckets,
+                                        String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(buckets)
+                .register(meterRegistry);
+    }
+}
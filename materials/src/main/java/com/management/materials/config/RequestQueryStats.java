@@ -0,0 +1,167 @@
+package com.management.materials.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contadores de base de datos de la petición HTTP en curso: sentencias preparadas por Hibernate,
+ * entidades cargadas, tiempo JDBC y filas leídas, agrupados por huella de SQL.
+ * Se asocian al hilo que atiende la petición; el trabajo en otros hilos (p. ej. la exportación
+ * en streaming) no se atribuye a la petición.
+ */
+public final class RequestQueryStats {
+
+    /**
+     * Huellas distintas conservadas por petición; el resto se acumula en una sola entrada
+     */
+    static final int MAX_FINGERPRINTS = 50;
+
+    private static final String OTHER_STATEMENTS = "(otras sentencias)";
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private String handler;
+    private int statements;
+    private int entityLoads;
+    private int executions;
+    private long jdbcNanos;
+    private long rows;
+    private final Map<String, StatementStats> byFingerprint = new LinkedHashMap<>();
+
+    private RequestQueryStats() {}
+
+    /**
+     * Inicia la medición en el hilo actual
+     */
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Reanuda en el hilo actual una medición iniciada en otro despacho de la misma petición
+     */
+    public static void resume(RequestQueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    /**
+     * Medición en curso en el hilo actual (null si el hilo no atiende una petición medida)
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Termina la medición del hilo actual
+     *
+     * @return Contadores de la petición, o null si no había medición en curso
+     */
+    public static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementPrepared() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    /**
+     * Registra una ejecución JDBC
+     *
+     * @return Acumulado de la huella de la sentencia, para sumarle las filas leídas
+     */
+    StatementStats execution(String sql, long nanos) {
+        String fingerprint = SqlFingerprint.of(sql);
+        StatementStats statement = byFingerprint.get(fingerprint);
+        if (statement == null) {
+            String key = byFingerprint.size() < MAX_FINGERPRINTS ? fingerprint : OTHER_STATEMENTS;
+            statement = byFingerprint.computeIfAbsent(key, StatementStats::new);
+        }
+        statement.executions++;
+        statement.nanos += nanos;
+        statement.maxNanos = Math.max(statement.maxNanos, nanos);
+
+        executions++;
+        jdbcNanos += nanos;
+        return statement;
+    }
+
+    void rowRead(StatementStats statement) {
+        statement.rows++;
+        rows++;
+    }
+
+    /**
+     * Método del controlador que atiende la petición (Clase#método)
+     */
+    public String getHandler() { return handler; }
+
+    public void setHandler(String handler) { this.handler = handler; }
+
+    /**
+     * Sentencias SQL preparadas por Hibernate
+     */
+    public int getStatements() { return statements; }
+
+    public int getEntityLoads() { return entityLoads; }
+
+    /**
+     * Ejecuciones JDBC (un lote cuenta como una ejecución)
+     */
+    public int getExecutions() { return executions; }
+
+    public long getJdbcNanos() { return jdbcNanos; }
+
+    public long getRows() { return rows; }
+
+    /**
+     * Sentencias agrupadas por huella, de mayor a menor tiempo JDBC
+     */
+    public List<StatementStats> getStatementsByTime() {
+        List<StatementStats> result = new ArrayList<>(byFingerprint.values());
+        result.sort(Comparator.comparingLong(StatementStats::getNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Acumulado de las ejecuciones de una misma sentencia (misma huella) en la petición
+     */
+    public static final class StatementStats {
+
+        private final String fingerprint;
+        private int executions;
+        private long nanos;
+        private long maxNanos;
+        private long rows;
+
+        private StatementStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public String getFingerprint() { return fingerprint; }
+
+        public int getExecutions() { return executions; }
+
+        public long getNanos() { return nanos; }
+
+        public long getMaxNanos() { return maxNanos; }
+
+        public long getRows() { return rows; }
+    }
+}
@@ -1,7 +1,16 @@
 package com.management.materials.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -10,8 +19,52 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Pool de conexiones keep-alive hacia el servicio de autenticación, con timeouts de conexión y de lectura
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager authConnectionManager(
+            @Value("${auth.http.max-connections:50}") int maxConnections,
+            @Value("${auth.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${auth.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${auth.http.read-timeout-ms:3000}") long readTimeoutMs) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Cliente HTTP sobre el pool; la espera por una conexión libre está acotada por acquire-timeout-ms
+     */
+    @Bean
+    public CloseableHttpClient authHttpClient(
+            PoolingHttpClientConnectionManager authConnectionManager,
+            @Value("${auth.http.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${auth.http.acquire-timeout-ms:1000}") long acquireTimeoutMs) {
+        return HttpClients.custom()
+                .setConnectionManager(authConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .disableRedirectHandling()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient authHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(authHttpClient));
+    }
+
+    @Bean
+    public CircuitBreaker authCircuitBreaker(
+            @Value("${auth.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${auth.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        return new CircuitBreaker("auth-service", failureThreshold, openDurationMs);
+    }
+}
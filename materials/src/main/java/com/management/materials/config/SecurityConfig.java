@@ -1,5 +1,6 @@
 package com.management.materials.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -20,11 +21,17 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final QueryBudgetFilter queryBudgetFilter;
+    private final AccessLogFilter accessLogFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          QueryBudgetFilter queryBudgetFilter,
+                          AccessLogFilter accessLogFilter,
                           CorsConfigurationSource corsConfigurationSource) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.queryBudgetFilter = queryBudgetFilter;
+        this.accessLogFilter = accessLogFilter;
         this.corsConfigurationSource = corsConfigurationSource;
     }
 
@@ -44,11 +51,16 @@ public class SecurityConfig {
 
                 // Configurar autorización de endpoints
                 .authorizeHttpRequests(auth -> auth
+                        // Despachos asíncronos y de error de una petición ya autorizada (exportación en streaming)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // Endpoints públicos
                         .requestMatchers(
                                 "/api/public/**",
                                 "/actuator/health",
-                                "/actuator/info"
+                                "/actuator/info",
+                                // Recolección de Prometheus (restringir por red en producción)
+                                "/actuator/prometheus"
                         ).permitAll()
 
                         // Documentación Swagger
@@ -72,6 +84,12 @@ public class SecurityConfig {
         // Agregar filtro JWT antes del filtro de autenticación estándar
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Medición de consultas por petición, después de la autenticación
+        http.addFilterAfter(queryBudgetFilter, JwtAuthenticationFilter.class);
+
+        // Registro de acceso antes de la autenticación para incluir también las respuestas 401/403
+        http.addFilterBefore(accessLogFilter, JwtAuthenticationFilter.class);
+
         return http.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.management.materials.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Huella de una sentencia SQL: el texto sin literales, con los espacios normalizados y las listas
+ * IN (?, ?, ...) colapsadas, de modo que las ejecuciones de una misma consulta se agrupen.
+ * Hibernate genera un conjunto acotado de sentencias, por lo que las huellas se memorizan.
+ */
+final class SqlFingerprint {
+
+    private static final int MAX_CACHED = 2000;
+    private static final int MAX_LENGTH = 300;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {}
+
+    static String of(String sql) {
+        if (sql == null) {
+            return "(sin SQL)";
+        }
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        String fingerprint = normalize(sql);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private static String normalize(String sql) {
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("(?...)");
+        result = WHITESPACE.matcher(result).replaceAll(" ").trim();
+        return result.length() > MAX_LENGTH ? result.substring(0, MAX_LENGTH) + "..." : result;
+    }
+}
@@ -0,0 +1,214 @@
+package com.management.materials.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.materials.dto.request.UserInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché acotada de tokens ya validados por el microservicio de autenticación.
+ * Las entradas se indexan por el hash SHA-256 del token (el token nunca se guarda) y
+ * expiran al cumplirse el TTL configurado o el "exp" del JWT, lo que ocurra primero.
+ * Es un ConcurrentHashMap sin bloqueos en las lecturas (no fija hilos virtuales a su portador):
+ * al superar el tamaño máximo, un solo hilo a la vez elimina las entradas expiradas y, si no
+ * basta, entradas cualquiera hasta dejar la caché en el 90 % del máximo.
+ */
+@Component
+public class TokenValidationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenValidationCache.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlSeconds;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @Autowired
+    public TokenValidationCache(@Value("${auth.token-cache.enabled:true}") boolean enabled,
+                                @Value("${auth.token-cache.max-entries:10000}") int maxEntries,
+                                @Value("${auth.token-cache.ttl-seconds:60}") long ttlSeconds) {
+        this(enabled, maxEntries, ttlSeconds, Clock.systemUTC());
+    }
+
+    TokenValidationCache(boolean enabled, int maxEntries, long ttlSeconds, Clock clock) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Obtiene la información de usuario asociada a un token validado previamente
+     *
+     * @param token Token JWT
+     * @return Información del usuario o null si no está en caché o ya expiró
+     */
+    public UserInfo get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = hash(token);
+        Instant now = clock.instant();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt.isAfter(now)) {
+            hits.incrementAndGet();
+            return entry.userInfo;
+        }
+        if (entry != null && entries.remove(key, entry)) {
+            evictions.incrementAndGet();
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Guarda el resultado de una validación exitosa
+     *
+     * @param token Token JWT validado
+     * @param userInfo Información del usuario retornada por el servicio de autenticación
+     */
+    public void put(String token, UserInfo userInfo) {
+        if (!enabled || userInfo == null) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        Instant expiresAt = now.plusSeconds(ttlSeconds);
+
+        // El TTL nunca debe superar la expiración propia del token
+        Instant tokenExpiration = extractExpiration(token);
+        if (tokenExpiration != null && tokenExpiration.isBefore(expiresAt)) {
+            expiresAt = tokenExpiration;
+        }
+
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+
+        entries.put(hash(token), new Entry(userInfo, expiresAt));
+        if (entries.size() > maxEntries) {
+            evict(now);
+        }
+    }
+
+    /**
+     * Elimina las entradas expiradas y, si no basta, entradas cualquiera (orden de iteración del mapa)
+     * hasta el 90 % del máximo. Si otro hilo ya está expulsando, no espera: la caché puede exceder
+     * el máximo por unas pocas entradas mientras tanto.
+     */
+    private void evict(Instant now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(entry -> {
+                boolean expired = !entry.expiresAt.isAfter(now);
+                if (expired) {
+                    evictions.incrementAndGet();
+                }
+                return expired;
+            });
+
+            int target = maxEntries - maxEntries / 10;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Elimina todas las entradas de la caché
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    // Métricas
+    public long getHits() { return hits.get(); }
+
+    public long getMisses() { return misses.get(); }
+
+    public long getEvictions() { return evictions.get(); }
+
+    public int size() { return entries.size(); }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Lee el claim "exp" del payload del JWT sin verificar la firma.
+     * Solo se usa para acotar el TTL; la validez la decide el servicio de autenticación.
+     */
+    private Instant extractExpiration(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = objectMapper.readTree(payload).get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (Exception e) {
+            logger.debug("No fue posible leer la expiración del token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Entrada de la caché con su instante de expiración
+     */
+    private static final class Entry {
+        private final UserInfo userInfo;
+        private final Instant expiresAt;
+
+        private Entry(UserInfo userInfo, Instant expiresAt) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
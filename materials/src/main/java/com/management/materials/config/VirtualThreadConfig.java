@@ -0,0 +1,101 @@
+package com.management.materials.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+
+/**
+ * Modo opcional de ejecución con hilos virtuales (app.virtual-threads.enabled=true).
+ * Tomcat, @Async y @Scheduled usan hilos virtuales y el DataSource se protege con
+ * un semáforo del tamaño del pool de Hikari para que la alta concurrencia no se
+ * convierta en una avalancha de solicitudes de conexión.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * Atiende cada petición HTTP en un hilo virtual
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Tomcat configurado para atender peticiones con hilos virtuales");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Ejecutor de tareas @Async basado en hilos virtuales
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Planificador de tareas @Scheduled que ejecuta cada disparo en un hilo virtual
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.virtual-threads.scheduler-pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-vt-", 0).factory());
+        return scheduler;
+    }
+
+    /**
+     * Envuelve el DataSource con un límite de conexiones concurrentes
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.virtual-threads.jdbc-permits:0}") int configuredPermits,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+
+                int permits = configuredPermits;
+                if (permits <= 0) {
+                    permits = hikariPoolSize(dataSource);
+                }
+
+                logger.info("DataSource '{}' limitado a {} conexiones concurrentes", beanName, permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, acquireTimeoutMs);
+            }
+        };
+    }
+
+    /**
+     * Tamaño del pool de Hikari, aunque el DataSource ya esté envuelto (10 si no es Hikari)
+     */
+    private static int hikariPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() : 10;
+        } catch (SQLException e) {
+            return 10;
+        }
+    }
+}
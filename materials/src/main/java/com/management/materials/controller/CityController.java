@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -46,10 +47,16 @@ public class CityController {
             @ApiResponse(responseCode = "401", description = "No autorizado"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
-    public ResponseEntity<ApiResponseDto<List<CityResponseDto>>> getAllCities() {
-        logger.info("Solicitud para obtener todas las ciudades");
+    public ResponseEntity<ApiResponseDto<List<CityResponseDto>>> getAllCities(ServletWebRequest webRequest) {
+        logger.debug("Solicitud para obtener todas las ciudades");
 
         try {
+            String version = cityService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             List<CityResponseDto> cities = cityService.getAllCities();
 
             if (cities.isEmpty()) {
@@ -84,11 +91,18 @@ public class CityController {
     })
     public ResponseEntity<ApiResponseDto<CityResponseDto>> getCityByCode(
             @Parameter(description = "Código de la ciudad", example = "BOG")
-            @PathVariable String code) {
+            @PathVariable String code,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para obtener ciudad con código: {}", code);
+        logger.debug("Solicitud para obtener ciudad con código: {}", code);
 
         try {
+            String version = cityService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             CityResponseDto city = cityService.getCityByCode(code);
 
             ApiResponseDto<CityResponseDto> response = ApiResponseDto.success(
@@ -118,11 +132,18 @@ public class CityController {
     })
     public ResponseEntity<ApiResponseDto<List<CityResponseDto>>> getCitiesByDepartmentCode(
             @Parameter(description = "Código del departamento", example = "DC")
-            @PathVariable String departmentCode) {
+            @PathVariable String departmentCode,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar ciudades por código de departamento: {}", departmentCode);
+        logger.debug("Solicitud para buscar ciudades por código de departamento: {}", departmentCode);
 
         try {
+            String version = cityService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             List<CityResponseDto> cities = cityService.getCitiesByDepartmentCode(departmentCode);
 
             if (cities.isEmpty()) {
@@ -157,11 +178,18 @@ public class CityController {
     })
     public ResponseEntity<ApiResponseDto<List<CityResponseDto>>> getCitiesByName(
             @Parameter(description = "Nombre o parte del nombre de la ciudad")
-            @RequestParam String name) {
+            @RequestParam String name,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar ciudades por nombre: {}", name);
+        logger.debug("Solicitud para buscar ciudades por nombre: {}", name);
 
         try {
+            String version = cityService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             List<CityResponseDto> cities = cityService.getCitiesByName(name);
 
             if (cities.isEmpty()) {
@@ -0,0 +1,85 @@
+package com.management.materials.controller;
+
+import com.management.materials.exception.PreconditionFailedException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Soporte de peticiones condicionales (If-None-Match / If-Modified-Since / If-Match) para los controladores.
+ * Los validadores se calculan con consultas livianas antes de cargar y mapear los datos, de modo que
+ * un 304 Not Modified no construye DTOs ni serializa la respuesta.
+ */
+final class ConditionalRequests {
+
+    /**
+     * Los clientes pueden conservar la respuesta, pero deben revalidarla en cada uso
+     */
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequests() {}
+
+    /**
+     * ETag fuerte de un material a partir de su ID y su versión (bloqueo optimista)
+     */
+    static String materialETag(Long id, Long version) {
+        return "\"material-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * Obtiene la versión esperada de un material desde el encabezado If-Match.
+     *
+     * @return Versión indicada por el cliente; null si no hay encabezado o es "*" (actualización sin condición)
+     * @throws PreconditionFailedException si el ETag es débil, de otro material o no tiene el formato esperado
+     */
+    static Long expectedMaterialVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = "\"material-" + id + "-v";
+        String etag = ifMatch.trim();
+        // If-Match usa comparación fuerte: un ETag débil nunca coincide
+        if (etag.startsWith(prefix) && etag.endsWith("\"") && etag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(etag.substring(prefix.length(), etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // ETag con otro formato: no coincide con ninguna versión
+            }
+        }
+        throw new PreconditionFailedException("If-Match no corresponde a una versión del material con ID " + id
+                + "; use el ETag retornado por GET /api/materials/" + id);
+    }
+
+    /**
+     * ETag débil de una colección a partir de su versión
+     */
+    static String collectionETag(String collection, String version) {
+        return "W/\"" + collection + "-" + version + "\"";
+    }
+
+    /**
+     * Evalúa la petición contra el ETag (y la fecha de modificación si se conoce) y agrega los
+     * validadores a la respuesta. Si retorna true, la respuesta ya es un 304 y el controlador
+     * debe retornar null sin cuerpo.
+     */
+    static boolean isNotModified(ServletWebRequest request, String etag, LocalDateTime lastModified) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            // Reemplaza el no-store que Spring Security agrega por defecto
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        }
+        if (lastModified == null) {
+            return request.checkNotModified(etag);
+        }
+        return request.checkNotModified(etag, lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    static boolean isNotModified(ServletWebRequest request, String etag) {
+        return isNotModified(request, etag, null);
+    }
+}
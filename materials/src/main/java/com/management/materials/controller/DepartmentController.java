@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 /**
@@ -45,10 +46,16 @@ public class DepartmentController {
             @ApiResponse(responseCode = "401", description = "No autorizado"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
-    public ResponseEntity<ApiResponseDto<List<DepartmentResponseDto>>> getAllDepartments() {
-        logger.info("Solicitud para obtener todos los departamentos");
+    public ResponseEntity<ApiResponseDto<List<DepartmentResponseDto>>> getAllDepartments(ServletWebRequest webRequest) {
+        logger.debug("Solicitud para obtener todos los departamentos");
 
         try {
+            String version = departmentService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             List<DepartmentResponseDto> departments = departmentService.getAllDepartments();
 
             if (departments.isEmpty()) {
@@ -83,11 +90,18 @@ public class DepartmentController {
     })
     public ResponseEntity<ApiResponseDto<DepartmentResponseDto>> getDepartmentByCode(
             @Parameter(description = "Código del departamento", example = "DC")
-            @PathVariable String code) {
+            @PathVariable String code,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para obtener departamento con código: {}", code);
+        logger.debug("Solicitud para obtener departamento con código: {}", code);
 
         try {
+            String version = departmentService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             DepartmentResponseDto department = departmentService.getDepartmentByCode(code);
 
             ApiResponseDto<DepartmentResponseDto> response = ApiResponseDto.success(
@@ -117,11 +131,18 @@ public class DepartmentController {
     })
     public ResponseEntity<ApiResponseDto<List<DepartmentResponseDto>>> getDepartmentsByName(
             @Parameter(description = "Nombre o parte del nombre del departamento")
-            @RequestParam String name) {
+            @RequestParam String name,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar departamentos por nombre: {}", name);
+        logger.debug("Solicitud para buscar departamentos por nombre: {}", name);
 
         try {
+            String version = departmentService.getDataVersion();
+            if (version != null && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.collectionETag("reference", version))) {
+                return null;
+            }
+
             List<DepartmentResponseDto> departments = departmentService.getDepartmentsByName(name);
 
             if (departments.isEmpty()) {
@@ -1,11 +1,26 @@
 package com.management.materials.controller;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.management.materials.cache.MaterialResponseCache;
+import com.management.materials.cache.MaterialSuggestionIndex;
 import com.management.materials.dto.request.MaterialRequestDto;
 import com.management.materials.dto.request.MaterialSearchDto;
 import com.management.materials.dto.response.ApiResponseDto;
+import com.management.materials.dto.response.BulkMaterialResultDto;
+import com.management.materials.dto.response.CursorPageDto;
 import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.dto.response.MaterialStatsDto;
+import com.management.materials.dto.response.MaterialSuggestionDto;
+import com.management.materials.enums.MaterialStatsGrouping;
 import com.management.materials.enums.MaterialType;
+import com.management.materials.exception.BusinessException;
+import com.management.materials.exception.PreconditionFailedException;
+import com.management.materials.repository.projection.MaterialVersionRow;
 import com.management.materials.service.IMaterialService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,14 +31,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST para gestión de materiales
@@ -38,26 +65,92 @@ public class MaterialController {
     private static final Logger logger = LoggerFactory.getLogger(MaterialController.class);
 
     private final IMaterialService materialService;
+    private final ObjectMapper objectMapper;
+    private final MaterialSuggestionIndex suggestionIndex;
+    private final MaterialResponseCache responseCache;
 
-    public MaterialController(IMaterialService materialService) {
+    @Value("${app.materials.pagination.legacy-full-list:true}")
+    private boolean legacyFullListEnabled;
+
+    public MaterialController(IMaterialService materialService, ObjectMapper objectMapper,
+                              MaterialSuggestionIndex suggestionIndex, MaterialResponseCache responseCache) {
         this.materialService = materialService;
+        this.objectMapper = objectMapper;
+        this.suggestionIndex = suggestionIndex;
+        this.responseCache = responseCache;
     }
 
     /**
-     * Obtiene todos los materiales
+     * Obtiene los materiales, completos (modo compatible) o paginados por cursor
      */
     @GetMapping
-    @Operation(summary = "Obtener todos los materiales",
-            description = "Retorna la lista completa de materiales del sistema")
+    @Operation(summary = "Obtener materiales",
+            description = "Retorna los materiales ordenados por fecha de compra descendente. " +
+                    "Si se envía 'cursor' o 'size' la respuesta se pagina por cursor y el campo 'next' " +
+                    "contiene el cursor de la siguiente página. Sin parámetros retorna la lista completa " +
+                    "(modo compatible) salvo que esté deshabilitado por configuración.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de materiales obtenida exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválido"),
             @ApiResponse(responseCode = "401", description = "No autorizado"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
-    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getAllMaterials() {
-        logger.info("Solicitud para obtener todos los materiales");
+    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getAllMaterials(
+            @Parameter(description = "Cursor de la página siguiente retornado en 'next'")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (acotado al máximo configurado)", example = "50")
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest webRequest) {
+
+        if (cursor == null && size == null && legacyFullListEnabled) {
+            return getAllMaterialsLegacy(webRequest);
+        }
+
+        logger.debug("Solicitud para obtener página de materiales: cursor={}, tamaño={}", cursor, size);
 
         try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
+            CursorPageDto<MaterialResponseDto> page = materialService.getMaterialsPage(cursor, size);
+
+            if (page.getItems().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponseDto.error("No se encontraron materiales"));
+            }
+
+            ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
+                    page.getItems(),
+                    "Materiales obtenidos exitosamente. Total en página: " + page.getItems().size(),
+                    page.getNextCursor()
+            );
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parámetros de paginación inválidos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al obtener página de materiales", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al obtener materiales"));
+        }
+    }
+
+    /**
+     * Retorna la lista completa de materiales (comportamiento original)
+     */
+    private ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getAllMaterialsLegacy(
+            ServletWebRequest webRequest) {
+        logger.debug("Solicitud para obtener todos los materiales");
+
+        try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
             List<MaterialResponseDto> materials = materialService.getAllMaterials();
 
             if (materials.isEmpty()) {
@@ -92,11 +185,20 @@ public class MaterialController {
     })
     public ResponseEntity<ApiResponseDto<MaterialResponseDto>> getMaterialById(
             @Parameter(description = "ID del material", example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para obtener material con ID: {}", id);
+        logger.debug("Solicitud para obtener material con ID: {}", id);
 
         try {
+            // Validadores con una consulta liviana: un 304 no carga ni mapea el material
+            Optional<MaterialVersionRow> version = materialService.getMaterialVersion(id);
+            if (version.isPresent() && ConditionalRequests.isNotModified(webRequest,
+                    ConditionalRequests.materialETag(id, version.get().getVersion()),
+                    version.get().getLastModified())) {
+                return null;
+            }
+
             MaterialResponseDto material = materialService.getMaterialById(id);
 
             ApiResponseDto<MaterialResponseDto> response = ApiResponseDto.success(
@@ -130,7 +232,7 @@ public class MaterialController {
             @Parameter(description = "Datos del material a crear")
             @Valid @RequestBody MaterialRequestDto materialRequest) {
 
-        logger.info("Solicitud para crear nuevo material: {}", materialRequest.getName());
+        logger.debug("Solicitud para crear nuevo material: {}", materialRequest.getName());
 
         try {
             MaterialResponseDto createdMaterial = materialService.createMaterial(materialRequest);
@@ -142,6 +244,10 @@ public class MaterialController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (IllegalArgumentException e) {
+            logger.warn("Datos inválidos al crear material {}: {}", materialRequest.getName(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
         } catch (Exception e) {
             logger.error("Error al crear material: {}", materialRequest.getName(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -149,38 +255,111 @@ public class MaterialController {
         }
     }
 
+    /**
+     * Crea materiales en lote
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Crear materiales en lote",
+            description = "Crea una lista de materiales validando cada fila de forma independiente. " +
+                    "Las filas válidas se insertan por lotes JDBC y la respuesta incluye el resultado de " +
+                    "cada fila (ID creado o errores) en el mismo orden del request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Todos los materiales fueron creados"),
+            @ApiResponse(responseCode = "207", description = "Algunas filas tienen errores; las válidas fueron creadas"),
+            @ApiResponse(responseCode = "400", description = "Ninguna fila es válida o el lote excede el máximo permitido"),
+            @ApiResponse(responseCode = "401", description = "No autorizado"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public ResponseEntity<ApiResponseDto<BulkMaterialResultDto>> createMaterials(
+            @Parameter(description = "Lista de materiales a crear")
+            @RequestBody List<MaterialRequestDto> materialRequests) {
+
+        logger.debug("Solicitud para crear materiales en lote: {}", materialRequests.size());
+
+        try {
+            BulkMaterialResultDto result = materialService.createMaterials(materialRequests);
+
+            HttpStatus status;
+            if (result.getFailed() == 0) {
+                status = HttpStatus.CREATED;
+            } else if (result.getCreated() > 0) {
+                status = HttpStatus.MULTI_STATUS;
+            } else {
+                status = HttpStatus.BAD_REQUEST;
+            }
+
+            ApiResponseDto<BulkMaterialResultDto> response = ApiResponseDto.success(
+                    result,
+                    "Materiales creados: " + result.getCreated() + ", con errores: " + result.getFailed()
+            );
+
+            return ResponseEntity.status(status).body(response);
+
+        } catch (BusinessException e) {
+            logger.warn("Lote de materiales rechazado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al crear materiales en lote", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al crear materiales"));
+        }
+    }
+
     /**
      * Actualiza un material existente
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Actualizar material",
-            description = "Actualiza un material existente")
+            description = "Actualiza un material existente. Con If-Match (ETag de GET /api/materials/{id}) " +
+                    "la actualización se aplica solo si el material no cambió desde esa versión")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Material actualizado exitosamente"),
             @ApiResponse(responseCode = "404", description = "Material no encontrado"),
             @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
             @ApiResponse(responseCode = "401", description = "No autorizado"),
-            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "409", description = "Modificación concurrente (sin If-Match)"),
+            @ApiResponse(responseCode = "412", description = "La versión de If-Match ya no es la vigente")
     })
     public ResponseEntity<ApiResponseDto<MaterialResponseDto>> updateMaterial(
             @Parameter(description = "ID del material", example = "1")
             @PathVariable Long id,
+            @Parameter(description = "ETag de la versión conocida del material", example = "\"material-1-v3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Nuevos datos del material")
             @Valid @RequestBody MaterialRequestDto materialRequest) {
 
-        logger.info("Solicitud para actualizar material con ID: {}", id);
+        logger.debug("Solicitud para actualizar material con ID: {}", id);
 
         try {
-            MaterialResponseDto updatedMaterial = materialService.updateMaterial(id, materialRequest);
+            Long expectedVersion = ConditionalRequests.expectedMaterialVersion(id, ifMatch);
+            MaterialResponseDto updatedMaterial = materialService.updateMaterial(id, materialRequest, expectedVersion);
 
             ApiResponseDto<MaterialResponseDto> response = ApiResponseDto.success(
                     updatedMaterial,
                     "Material actualizado exitosamente"
             );
 
-            return ResponseEntity.ok(response);
-
+            return ResponseEntity.ok()
+                    .eTag(ConditionalRequests.materialETag(id, updatedMaterial.getVersion()))
+                    .body(response);
+
+        } catch (PreconditionFailedException e) {
+            logger.warn("Precondición no cumplida al actualizar material con ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.warn("Conflicto de modificación concurrente en material con ID: {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponseDto.error("El material fue modificado por otra solicitud; " +
+                            "consulte la versión vigente e intente de nuevo"));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Datos inválidos al actualizar material con ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
         } catch (Exception e) {
             logger.error("Error al actualizar material con ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -205,7 +384,7 @@ public class MaterialController {
             @Parameter(description = "ID del material", example = "1")
             @PathVariable Long id) {
 
-        logger.info("Solicitud para eliminar material con ID: {}", id);
+        logger.debug("Solicitud para eliminar material con ID: {}", id);
 
         try {
             materialService.deleteMaterial(id);
@@ -235,26 +414,30 @@ public class MaterialController {
             @ApiResponse(responseCode = "404", description = "No se encontraron materiales"),
             @ApiResponse(responseCode = "401", description = "No autorizado")
     })
-    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getMaterialsByType(
+    public ResponseEntity<?> getMaterialsByType(
             @Parameter(description = "Tipo de material")
-            @PathVariable MaterialType type) {
+            @PathVariable MaterialType type,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar materiales por tipo: {}", type);
+        logger.debug("Solicitud para buscar materiales por tipo: {}", type);
 
         try {
-            List<MaterialResponseDto> materials = materialService.getMaterialsByType(type);
+            return cachedListResponse(webRequest, "by-type:" + type,
+                    MaterialResponseCache.Scope.ofType(type), () -> {
+                List<MaterialResponseDto> materials = materialService.getMaterialsByType(type);
 
-            if (materials.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponseDto.error("No se encontraron materiales del tipo: " + type));
-            }
+                if (materials.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponseDto.error("No se encontraron materiales del tipo: " + type));
+                }
 
-            ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
-                    materials,
-                    "Se encontraron " + materials.size() + " materiales del tipo " + type
-            );
+                ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
+                        materials,
+                        "Se encontraron " + materials.size() + " materiales del tipo " + type
+                );
 
-            return ResponseEntity.ok(response);
+                return ResponseEntity.ok(response);
+            });
 
         } catch (Exception e) {
             logger.error("Error al buscar materiales por tipo: {}", type, e);
@@ -276,11 +459,16 @@ public class MaterialController {
     })
     public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getMaterialsByPurchaseDate(
             @Parameter(description = "Fecha de compra (formato: yyyy-MM-dd)", example = "2024-01-15")
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate purchaseDate) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate purchaseDate,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar materiales por fecha de compra: {}", purchaseDate);
+        logger.debug("Solicitud para buscar materiales por fecha de compra: {}", purchaseDate);
 
         try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
             List<MaterialResponseDto> materials = materialService.getMaterialsByPurchaseDate(purchaseDate);
 
             if (materials.isEmpty()) {
@@ -313,26 +501,30 @@ public class MaterialController {
             @ApiResponse(responseCode = "404", description = "No se encontraron materiales"),
             @ApiResponse(responseCode = "401", description = "No autorizado")
     })
-    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getMaterialsByCityCode(
+    public ResponseEntity<?> getMaterialsByCityCode(
             @Parameter(description = "Código de la ciudad", example = "BOG")
-            @PathVariable String cityCode) {
+            @PathVariable String cityCode,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar materiales por código de ciudad: {}", cityCode);
+        logger.debug("Solicitud para buscar materiales por código de ciudad: {}", cityCode);
 
         try {
-            List<MaterialResponseDto> materials = materialService.getMaterialsByCityCode(cityCode);
+            return cachedListResponse(webRequest, "by-city:" + cityCode,
+                    MaterialResponseCache.Scope.ofCity(cityCode), () -> {
+                List<MaterialResponseDto> materials = materialService.getMaterialsByCityCode(cityCode);
 
-            if (materials.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponseDto.error("No se encontraron materiales en la ciudad: " + cityCode));
-            }
+                if (materials.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponseDto.error("No se encontraron materiales en la ciudad: " + cityCode));
+                }
 
-            ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
-                    materials,
-                    "Se encontraron " + materials.size() + " materiales en la ciudad " + cityCode
-            );
+                ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
+                        materials,
+                        "Se encontraron " + materials.size() + " materiales en la ciudad " + cityCode
+                );
 
-            return ResponseEntity.ok(response);
+                return ResponseEntity.ok(response);
+            });
 
         } catch (Exception e) {
             logger.error("Error al buscar materiales por ciudad: {}", cityCode, e);
@@ -352,26 +544,30 @@ public class MaterialController {
             @ApiResponse(responseCode = "404", description = "No se encontraron materiales"),
             @ApiResponse(responseCode = "401", description = "No autorizado")
     })
-    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getMaterialsByDepartmentCode(
+    public ResponseEntity<?> getMaterialsByDepartmentCode(
             @Parameter(description = "Código del departamento", example = "DC")
-            @PathVariable String departmentCode) {
+            @PathVariable String departmentCode,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar materiales por código de departamento: {}", departmentCode);
+        logger.debug("Solicitud para buscar materiales por código de departamento: {}", departmentCode);
 
         try {
-            List<MaterialResponseDto> materials = materialService.getMaterialsByDepartmentCode(departmentCode);
+            return cachedListResponse(webRequest, "by-department:" + departmentCode,
+                    MaterialResponseCache.Scope.ofDepartment(departmentCode), () -> {
+                List<MaterialResponseDto> materials = materialService.getMaterialsByDepartmentCode(departmentCode);
 
-            if (materials.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponseDto.error("No se encontraron materiales en el departamento: " + departmentCode));
-            }
+                if (materials.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponseDto.error("No se encontraron materiales en el departamento: " + departmentCode));
+                }
 
-            ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
-                    materials,
-                    "Se encontraron " + materials.size() + " materiales en el departamento " + departmentCode
-            );
+                ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
+                        materials,
+                        "Se encontraron " + materials.size() + " materiales en el departamento " + departmentCode
+                );
 
-            return ResponseEntity.ok(response);
+                return ResponseEntity.ok(response);
+            });
 
         } catch (Exception e) {
             logger.error("Error al buscar materiales por departamento: {}", departmentCode, e);
@@ -385,39 +581,256 @@ public class MaterialController {
      */
     @GetMapping("/search")
     @Operation(summary = "Búsqueda avanzada de materiales",
-            description = "Busca materiales usando múltiples filtros")
+            description = "Busca materiales usando múltiples filtros combinables (tipos, rangos de precio y " +
+                    "fecha de compra, estado, ciudad y departamento). Solo se aplican los filtros informados " +
+                    "y el resultado se ordena por fecha de compra descendente.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Rangos de filtros inválidos"),
             @ApiResponse(responseCode = "404", description = "No se encontraron materiales"),
             @ApiResponse(responseCode = "401", description = "No autorizado")
     })
-    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> searchMaterials(
-            @Parameter(description = "Tipo de material") @RequestParam(required = false) MaterialType type,
-            @Parameter(description = "Fecha de compra") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate purchaseDate,
-            @Parameter(description = "Código de ciudad") @RequestParam(required = false) String cityCode,
-            @Parameter(description = "Código de departamento") @RequestParam(required = false) String departmentCode) {
+    public ResponseEntity<?> searchMaterials(
+            @ParameterObject MaterialSearchDto searchDto,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud de búsqueda avanzada: tipo={}, fecha={}, ciudad={}, departamento={}",
-                type, purchaseDate, cityCode, departmentCode);
+        logger.debug("Solicitud de búsqueda avanzada: {}", searchDto);
 
         try {
-            MaterialSearchDto searchDto = new MaterialSearchDto(type, purchaseDate, cityCode, departmentCode);
-            List<MaterialResponseDto> materials = materialService.searchMaterials(searchDto);
+            return cachedListResponse(webRequest, MaterialResponseCache.searchKey(searchDto),
+                    MaterialResponseCache.Scope.of(searchDto), () -> {
+                List<MaterialResponseDto> materials = materialService.searchMaterials(searchDto);
+
+                if (materials.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponseDto.error("No se encontraron materiales con los criterios especificados"));
+                }
+
+                ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
+                        materials,
+                        "Se encontraron " + materials.size() + " materiales con los criterios especificados"
+                );
+
+                return ResponseEntity.ok(response);
+            });
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Filtros de búsqueda inválidos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error en búsqueda avanzada de materiales", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al buscar materiales"));
+        }
+    }
 
-            if (materials.isEmpty()) {
+    /**
+     * Exporta los materiales en streaming (NDJSON o arreglo JSON) sin cargarlos en memoria
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Exportar materiales",
+            description = "Escribe los materiales que cumplen los filtros de la búsqueda avanzada a medida que se " +
+                    "leen de la base de datos, ordenados por fecha de compra descendente. Formato 'ndjson' " +
+                    "(un material por línea, por defecto) o 'json' (arreglo JSON).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación iniciada"),
+            @ApiResponse(responseCode = "400", description = "Formato de exportación o filtros inválidos"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<?> exportMaterials(
+            @ParameterObject MaterialSearchDto searchDto,
+            @Parameter(description = "Formato de salida: ndjson o json", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        logger.debug("Solicitud de exportación de materiales: formato={}, {}", format, searchDto);
+
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"json".equalsIgnoreCase(format)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error("Formato de exportación inválido: " + format));
+        }
+        try {
+            searchDto.validateRanges();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+
+        // La consulta se ejecuta al escribir la respuesta; cada material se serializa y se descarta
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+
+                materialService.exportMaterials(searchDto, material -> {
+                    try {
+                        writer.writeValue(generator, material);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                } else {
+                    generator.writeEndArray();
+                }
+            } catch (UncheckedIOException e) {
+                logger.warn("Exportación de materiales interrumpida: {}", e.getCause().getMessage());
+                throw e.getCause();
+            }
+        };
+
+        String extension = ndjson ? "ndjson" : "json";
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("materiales." + extension).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Estadísticas agregadas de materiales calculadas en la base de datos
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Estadísticas de materiales",
+            description = "Retorna la cantidad de materiales y la suma, promedio, mínimo y máximo del precio, " +
+                    "agrupados por tipo, estado, ciudad, departamento o mes de compra. Acepta los mismos filtros " +
+                    "de la búsqueda avanzada. Si los filtros solo usan departamento, tipos, estado y meses completos " +
+                    "de compra, responde desde el resumen precalculado (source=SUMMARY, sin mínimo ni máximo).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estadísticas calculadas exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Filtros inválidos"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<MaterialStatsDto>> getMaterialStats(
+            @ParameterObject MaterialSearchDto searchDto,
+            @Parameter(description = "Agrupación: TYPE, STATUS, CITY, DEPARTMENT o PURCHASE_MONTH", example = "TYPE")
+            @RequestParam(defaultValue = "TYPE") MaterialStatsGrouping groupBy,
+            @Parameter(description = "true para calcular siempre sobre la tabla de materiales (incluye mínimo y máximo)")
+            @RequestParam(defaultValue = "false") boolean live,
+            ServletWebRequest webRequest) {
+
+        logger.debug("Solicitud de estadísticas de materiales por {}: {}", groupBy, searchDto);
+
+        try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
+            MaterialStatsDto stats = materialService.getMaterialStats(searchDto, groupBy, live);
+            return ResponseEntity.ok(ApiResponseDto.success(stats,
+                    "Estadísticas de " + stats.getTotal().getCount() + " materiales en " +
+                            stats.getGroups().size() + " grupos"));
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("Filtros de estadísticas inválidos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al calcular estadísticas de materiales", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al calcular estadísticas"));
+        }
+    }
+
+    /**
+     * Sugerencias de autocompletado servidas desde el índice en memoria
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugerencias de materiales",
+            description = "Retorna materiales cuyas palabras del nombre o la descripción comienzan por las " +
+                    "palabras escritas. Se resuelve desde un índice en memoria, sin consultar la base de datos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Texto de búsqueda inválido"),
+            @ApiResponse(responseCode = "503", description = "El índice de sugerencias aún se está construyendo"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<List<MaterialSuggestionDto>>> suggestMaterials(
+            @Parameter(description = "Texto escrito por el usuario", example = "tala")
+            @RequestParam String q,
+            @Parameter(description = "Cantidad máxima de sugerencias", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("Solicitud de sugerencias de materiales: '{}'", q);
+
+        try {
+            List<MaterialSuggestionDto> suggestions = suggestionIndex.suggest(q, limit);
+            return ResponseEntity.ok(ApiResponseDto.success(suggestions,
+                    "Se encontraron " + suggestions.size() + " sugerencias"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            logger.warn("Sugerencias no disponibles: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al obtener sugerencias de materiales: {}", q, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al obtener sugerencias"));
+        }
+    }
+
+    /**
+     * Búsqueda de texto en nombre y descripción ordenada por relevancia
+     */
+    @GetMapping("/text-search")
+    @Operation(summary = "Búsqueda de texto de materiales",
+            description = "Busca el texto en el nombre y la descripción de los materiales y retorna los " +
+                    "resultados ordenados por relevancia. En PostgreSQL usa búsqueda de texto completo e índices " +
+                    "de trigramas; el campo 'next' contiene el número de la página siguiente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Texto o paginación inválidos"),
+            @ApiResponse(responseCode = "404", description = "No se encontraron materiales"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> searchMaterialsByText(
+            @Parameter(description = "Texto a buscar (mínimo 2 caracteres)", example = "taladro")
+            @RequestParam String q,
+            @Parameter(description = "Número de página (desde 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamaño de página (acotado al máximo configurado)", example = "20")
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest webRequest) {
+
+        logger.debug("Solicitud de búsqueda de texto de materiales: '{}', página={}, tamaño={}", q, page, size);
+
+        try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
+            CursorPageDto<MaterialResponseDto> result = materialService.searchMaterialsByText(q, page, size);
+
+            if (result.getItems().isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponseDto.error("No se encontraron materiales con los criterios especificados"));
+                        .body(ApiResponseDto.error("No se encontraron materiales para: " + q));
             }
 
             ApiResponseDto<List<MaterialResponseDto>> response = ApiResponseDto.success(
-                    materials,
-                    "Se encontraron " + materials.size() + " materiales con los criterios especificados"
+                    result.getItems(),
+                    "Se encontraron " + result.getItems().size() + " materiales para '" + q + "'",
+                    result.getNextCursor()
             );
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            logger.warn("Parámetros de búsqueda de texto inválidos: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error(e.getMessage()));
         } catch (Exception e) {
-            logger.error("Error en búsqueda avanzada de materiales", e);
+            logger.error("Error en búsqueda de texto de materiales: {}", q, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponseDto.error("Error interno al buscar materiales"));
         }
@@ -436,11 +849,16 @@ public class MaterialController {
     })
     public ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> getMaterialsByName(
             @Parameter(description = "Nombre o parte del nombre del material")
-            @RequestParam String name) {
+            @RequestParam String name,
+            ServletWebRequest webRequest) {
 
-        logger.info("Solicitud para buscar materiales por nombre: {}", name);
+        logger.debug("Solicitud para buscar materiales por nombre: {}", name);
 
         try {
+            if (isCollectionNotModified(webRequest)) {
+                return null;
+            }
+
             List<MaterialResponseDto> materials = materialService.getMaterialsByName(name);
 
             if (materials.isEmpty()) {
@@ -461,4 +879,56 @@ public class MaterialController {
                     .body(ApiResponseDto.error("Error interno al buscar materiales"));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Responde un listado desde la caché de respuestas serializadas o lo genera con el proveedor y
+     * guarda la lista serializada (solo respuestas 200). En un acierto la petición condicional se
+     * evalúa con el ETag guardado, sin consultar la versión de la colección.
+     *
+     * @return Respuesta JSON, o null si la petición condicional ya respondió 304
+     */
+    private ResponseEntity<?> cachedListResponse(
+            ServletWebRequest webRequest, String key, MaterialResponseCache.Scope scope,
+            Supplier<ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>>> loader) throws IOException {
+
+        if (!responseCache.isEnabled()) {
+            return isCollectionNotModified(webRequest) ? null : loader.get();
+        }
+
+        MaterialResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            long generation = responseCache.currentGeneration();
+            String eTag = collectionETag();
+            if (ConditionalRequests.isNotModified(webRequest, eTag)) {
+                return null;
+            }
+            ResponseEntity<ApiResponseDto<List<MaterialResponseDto>>> response = loader.get();
+            if (response.getStatusCode() != HttpStatus.OK) {
+                return response;
+            }
+            cached = new MaterialResponseCache.CachedResponse(eTag, response.getBody().getMessage(),
+                    objectMapper.writeValueAsString(response.getBody().getData()));
+            responseCache.put(key, scope, cached, generation);
+        } else if (ConditionalRequests.isNotModified(webRequest, cached.getETag())) {
+            return null;
+        }
+
+        // Sobre con la marca de tiempo de esta respuesta; la lista ya serializada se copia tal cual
+        byte[] body = objectMapper.writeValueAsBytes(
+                ApiResponseDto.success(new RawValue(cached.getData()), cached.getMessage()));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Evalúa la petición condicional de un listado de materiales con la versión de la colección
+     */
+    private boolean isCollectionNotModified(ServletWebRequest webRequest) {
+        return ConditionalRequests.isNotModified(webRequest, collectionETag());
+    }
+
+    private String collectionETag() {
+        return ConditionalRequests.collectionETag("materials", materialService.getMaterialsVersion());
+    }
+}
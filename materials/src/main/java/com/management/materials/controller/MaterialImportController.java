@@ -0,0 +1,185 @@
+package com.management.materials.controller;
+
+import com.management.materials.dto.response.ApiResponseDto;
+import com.management.materials.dto.response.MaterialImportJobDto;
+import com.management.materials.exception.BusinessException;
+import com.management.materials.exception.ResourceNotFoundException;
+import com.management.materials.service.IMaterialImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * Controlador REST para importaciones de materiales desde archivos CSV
+ */
+@RestController
+@RequestMapping("/api/materials/imports")
+@CrossOrigin(origins = "http://localhost:4200")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Importación de materiales", description = "Importación masiva de materiales en segundo plano")
+public class MaterialImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialImportController.class);
+
+    private final IMaterialImportService materialImportService;
+
+    public MaterialImportController(IMaterialImportService materialImportService) {
+        this.materialImportService = materialImportService;
+    }
+
+    /**
+     * Inicia la importación de un archivo CSV
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Importar materiales desde CSV",
+            description = "Encola la importación del archivo en segundo plano. El encabezado debe incluir las " +
+                    "columnas name, description, type, price, purchaseDate, status y cityCode (saleDate es " +
+                    "opcional). Las fechas usan el formato yyyy-MM-dd.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importación encolada"),
+            @ApiResponse(responseCode = "400", description = "Archivo vacío"),
+            @ApiResponse(responseCode = "401", description = "No autorizado"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "503", description = "Cola de importaciones llena")
+    })
+    public ResponseEntity<ApiResponseDto<MaterialImportJobDto>> startImport(
+            @Parameter(description = "Archivo CSV de materiales")
+            @RequestParam("file") MultipartFile file) {
+
+        logger.info("Solicitud de importación de materiales: {}", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponseDto.error("El archivo está vacío"));
+        }
+
+        try {
+            String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "materiales.csv";
+            MaterialImportJobDto job = materialImportService.startImport(fileName, file.getInputStream());
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponseDto.success(job, "Importación encolada con ID: " + job.getId()));
+
+        } catch (IllegalStateException e) {
+            logger.warn("Importación rechazada: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al iniciar la importación de materiales", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al iniciar la importación"));
+        }
+    }
+
+    /**
+     * Obtiene las importaciones más recientes
+     */
+    @GetMapping
+    @Operation(summary = "Listar importaciones",
+            description = "Retorna las 20 importaciones más recientes con su progreso")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importaciones obtenidas exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<List<MaterialImportJobDto>>> getRecentJobs() {
+        logger.info("Solicitud para obtener las importaciones recientes");
+
+        try {
+            List<MaterialImportJobDto> jobs = materialImportService.getRecentJobs();
+            return ResponseEntity.ok(ApiResponseDto.success(jobs, "Total: " + jobs.size()));
+
+        } catch (Exception e) {
+            logger.error("Error al obtener las importaciones recientes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al obtener importaciones"));
+        }
+    }
+
+    /**
+     * Obtiene el estado de una importación
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Estado de una importación",
+            description = "Retorna el progreso (registros procesados, importados, con error y registros por " +
+                    "segundo) y los primeros 100 errores de la importación")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importación encontrada"),
+            @ApiResponse(responseCode = "404", description = "Importación no encontrada"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<MaterialImportJobDto>> getJob(
+            @Parameter(description = "ID de la importación", example = "1")
+            @PathVariable Long id) {
+
+        logger.info("Solicitud para obtener la importación con ID: {}", id);
+
+        try {
+            MaterialImportJobDto job = materialImportService.getJob(id);
+            return ResponseEntity.ok(ApiResponseDto.success(job, "Importación " + job.getStatus().getDisplayName()));
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al obtener la importación con ID: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al obtener la importación"));
+        }
+    }
+
+    /**
+     * Reanuda una importación fallida desde su último punto de control
+     */
+    @PostMapping("/{id}/restart")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Reanudar importación",
+            description = "Reencola una importación fallida; continúa desde el último bloque confirmado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Importación reencolada"),
+            @ApiResponse(responseCode = "404", description = "Importación no encontrada"),
+            @ApiResponse(responseCode = "409", description = "La importación no está en estado fallido"),
+            @ApiResponse(responseCode = "401", description = "No autorizado"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "503", description = "Cola de importaciones llena")
+    })
+    public ResponseEntity<ApiResponseDto<MaterialImportJobDto>> restartJob(
+            @Parameter(description = "ID de la importación", example = "1")
+            @PathVariable Long id) {
+
+        logger.info("Solicitud para reanudar la importación con ID: {}", id);
+
+        try {
+            MaterialImportJobDto job = materialImportService.restartJob(id);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponseDto.success(job, "Importación reanudada desde el registro " + job.getProcessedRows()));
+
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponseDto.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error al reanudar la importación con ID: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al reanudar la importación"));
+        }
+    }
+}
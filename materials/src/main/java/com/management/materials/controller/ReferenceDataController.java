@@ -0,0 +1,74 @@
+package com.management.materials.controller;
+
+import com.management.materials.cache.ReferenceDataCache;
+import com.management.materials.dto.response.ApiResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para administrar la caché de datos de referencia
+ */
+@RestController
+@RequestMapping("/api/reference-data")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Datos de referencia", description = "Administración de la caché de ciudades y departamentos")
+public class ReferenceDataController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataController.class);
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public ReferenceDataController(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    /**
+     * Obtiene la versión vigente de la caché
+     */
+    @GetMapping("/version")
+    @Operation(summary = "Versión de los datos de referencia",
+            description = "Retorna la versión de la instantánea de ciudades y departamentos en memoria")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Versión obtenida exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autorizado")
+    })
+    public ResponseEntity<ApiResponseDto<Long>> getVersion() {
+        return ResponseEntity.ok(ApiResponseDto.success(referenceDataCache.getVersion()));
+    }
+
+    /**
+     * Recarga la caché desde la base de datos
+     */
+    @PostMapping("/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Refrescar datos de referencia",
+            description = "Recarga ciudades y departamentos desde la base de datos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Caché refrescada exitosamente"),
+            @ApiResponse(responseCode = "401", description = "No autorizado"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public ResponseEntity<ApiResponseDto<Long>> refresh() {
+        logger.info("Solicitud para refrescar los datos de referencia");
+
+        try {
+            long version = referenceDataCache.refresh();
+
+            return ResponseEntity.ok(ApiResponseDto.success(version, "Datos de referencia refrescados. Versión: " + version));
+
+        } catch (Exception e) {
+            logger.error("Error al refrescar los datos de referencia", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("Error interno al refrescar los datos de referencia"));
+        }
+    }
+}
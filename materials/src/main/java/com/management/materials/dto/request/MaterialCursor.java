@@ -0,0 +1,56 @@
+package com.management.materials.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por clave (keyset) de materiales.
+ * Representa la última fila entregada según el orden (purchase_date DESC, id DESC).
+ */
+public class MaterialCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final LocalDate purchaseDate;
+    private final Long id;
+
+    public MaterialCursor(LocalDate purchaseDate, Long id) {
+        this.purchaseDate = purchaseDate;
+        this.id = id;
+    }
+
+    /**
+     * Codifica el cursor como token URL-safe
+     */
+    public String encode() {
+        String raw = purchaseDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #encode()}
+     *
+     * @param token Token recibido del cliente
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static MaterialCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+            if (index < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new MaterialCursor(LocalDate.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token, e);
+        }
+    }
+
+    // Getters
+    public LocalDate getPurchaseDate() { return purchaseDate; }
+
+    public Long getId() { return id; }
+}
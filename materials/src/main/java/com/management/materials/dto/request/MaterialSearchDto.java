@@ -1,22 +1,53 @@
 package com.management.materials.dto.request;
 
+import com.management.materials.enums.MaterialStatus;
 import com.management.materials.enums.MaterialType;
+import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
- * DTO para búsqueda de materiales con filtros
+ * DTO para búsqueda de materiales con filtros. Solo los filtros informados
+ * se incluyen en la consulta.
  */
 public class MaterialSearchDto {
 
+    @Parameter(description = "Tipo de material")
     private MaterialType type;
 
+    @Parameter(description = "Tipos de material (varios valores separados por coma)")
+    private List<MaterialType> types;
+
+    @Parameter(description = "Fecha de compra exacta (yyyy-MM-dd)")
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate purchaseDate;
 
+    @Parameter(description = "Fecha de compra desde, inclusive (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchaseDateFrom;
+
+    @Parameter(description = "Fecha de compra hasta, inclusive (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchaseDateTo;
+
+    @Parameter(description = "Precio mínimo, inclusive")
+    private BigDecimal minPrice;
+
+    @Parameter(description = "Precio máximo, inclusive")
+    private BigDecimal maxPrice;
+
+    @Parameter(description = "Estado del material")
+    private MaterialStatus status;
+
+    @Parameter(description = "Código de ciudad")
     private String cityCode;
 
+    @Parameter(description = "Código de departamento")
     private String departmentCode;
 
     public MaterialSearchDto() {}
@@ -28,16 +59,69 @@ public class MaterialSearchDto {
         this.departmentCode = departmentCode;
     }
 
+    /**
+     * Tipos solicitados combinando 'type' y 'types' (vacío si no se filtra por tipo)
+     */
+    public Set<MaterialType> resolveTypes() {
+        Set<MaterialType> allTypes = EnumSet.noneOf(MaterialType.class);
+        if (type != null) {
+            allTypes.add(type);
+        }
+        if (types != null) {
+            types.stream().filter(t -> t != null).forEach(allTypes::add);
+        }
+        return allTypes;
+    }
+
+    /**
+     * Valida la consistencia de los rangos
+     *
+     * @throws IllegalArgumentException si un rango tiene el mínimo mayor que el máximo
+     */
+    public void validateRanges() {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("El precio mínimo no puede ser mayor al precio máximo");
+        }
+        if (purchaseDateFrom != null && purchaseDateTo != null && purchaseDateFrom.isAfter(purchaseDateTo)) {
+            throw new IllegalArgumentException("La fecha de compra inicial no puede ser posterior a la final");
+        }
+    }
+
     // Getters y Setters
     public MaterialType getType() { return type; }
     public void setType(MaterialType type) { this.type = type; }
 
+    public List<MaterialType> getTypes() { return types; }
+    public void setTypes(List<MaterialType> types) { this.types = types; }
+
     public LocalDate getPurchaseDate() { return purchaseDate; }
     public void setPurchaseDate(LocalDate purchaseDate) { this.purchaseDate = purchaseDate; }
 
+    public LocalDate getPurchaseDateFrom() { return purchaseDateFrom; }
+    public void setPurchaseDateFrom(LocalDate purchaseDateFrom) { this.purchaseDateFrom = purchaseDateFrom; }
+
+    public LocalDate getPurchaseDateTo() { return purchaseDateTo; }
+    public void setPurchaseDateTo(LocalDate purchaseDateTo) { this.purchaseDateTo = purchaseDateTo; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+    public void setMinPrice(BigDecimal minPrice) { this.minPrice = minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
+
+    public MaterialStatus getStatus() { return status; }
+    public void setStatus(MaterialStatus status) { this.status = status; }
+
     public String getCityCode() { return cityCode; }
     public void setCityCode(String cityCode) { this.cityCode = cityCode; }
 
     public String getDepartmentCode() { return departmentCode; }
     public void setDepartmentCode(String departmentCode) { this.departmentCode = departmentCode; }
-}
\ No newline at end of file
+
+    @Override
+    public String toString() {
+        return "tipos=" + resolveTypes() + ", fecha=" + purchaseDate + ", desde=" + purchaseDateFrom +
+                ", hasta=" + purchaseDateTo + ", precioMin=" + minPrice + ", precioMax=" + maxPrice +
+                ", estado=" + status + ", ciudad=" + cityCode + ", departamento=" + departmentCode;
+    }
+}
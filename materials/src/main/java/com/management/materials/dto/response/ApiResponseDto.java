@@ -2,6 +2,7 @@ package com.management.materials.dto.response;
 
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +18,10 @@ public class ApiResponseDto<T> {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime timestamp;
 
+    // Cursor de la siguiente página (solo en respuestas paginadas)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public ApiResponseDto() {}
 
     public ApiResponseDto(boolean success, String message, T data) {
@@ -34,6 +39,12 @@ public class ApiResponseDto<T> {
         return new ApiResponseDto<>(true, "Operación exitosa", data);
     }
 
+    public static <T> ApiResponseDto<T> success(T data, String message, String next) {
+        ApiResponseDto<T> response = new ApiResponseDto<>(true, message, data);
+        response.setNext(next);
+        return response;
+    }
+
     public static <T> ApiResponseDto<T> error(String message) {
         return new ApiResponseDto<>(false, message, null);
     }
@@ -50,4 +61,7 @@ public class ApiResponseDto<T> {
 
     public LocalDateTime getTimestamp() { return timestamp; }
     public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+    public String getNext() { return next; }
+    public void setNext(String next) { this.next = next; }
 }
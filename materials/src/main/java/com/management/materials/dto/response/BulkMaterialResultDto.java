@@ -0,0 +1,36 @@
+package com.management.materials.dto.response;
+
+import java.util.List;
+
+/**
+ * Resultado de la creación masiva de materiales
+ */
+public class BulkMaterialResultDto {
+
+    private int received;
+    private int created;
+    private int failed;
+    private List<BulkMaterialRowResultDto> results;
+
+    public BulkMaterialResultDto() {}
+
+    public BulkMaterialResultDto(int received, int created, int failed, List<BulkMaterialRowResultDto> results) {
+        this.received = received;
+        this.created = created;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    // Getters y Setters
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BulkMaterialRowResultDto> getResults() { return results; }
+    public void setResults(List<BulkMaterialRowResultDto> results) { this.results = results; }
+}
@@ -0,0 +1,50 @@
+package com.management.materials.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Resultado de una fila de la creación masiva de materiales
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkMaterialRowResultDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private int index;
+    private String status;
+    private Long id;
+    private List<String> errors;
+
+    public BulkMaterialRowResultDto() {}
+
+    public BulkMaterialRowResultDto(int index, String status, Long id, List<String> errors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static BulkMaterialRowResultDto created(int index, Long id) {
+        return new BulkMaterialRowResultDto(index, CREATED, id, null);
+    }
+
+    public static BulkMaterialRowResultDto failed(int index, List<String> errors) {
+        return new BulkMaterialRowResultDto(index, FAILED, null, errors);
+    }
+
+    // Getters y Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
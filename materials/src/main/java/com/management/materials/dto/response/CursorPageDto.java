@@ -0,0 +1,30 @@
+package com.management.materials.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de resultados obtenida con paginación por cursor
+ */
+public class CursorPageDto<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPageDto() {}
+
+    public CursorPageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    // Getters y Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
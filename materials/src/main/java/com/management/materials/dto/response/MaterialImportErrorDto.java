@@ -0,0 +1,24 @@
+package com.management.materials.dto.response;
+
+/**
+ * DTO de response para un error de importación
+ */
+public class MaterialImportErrorDto {
+
+    private long line;
+    private String message;
+
+    public MaterialImportErrorDto() {}
+
+    public MaterialImportErrorDto(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    // Getters y Setters
+    public long getLine() { return line; }
+    public void setLine(long line) { this.line = line; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
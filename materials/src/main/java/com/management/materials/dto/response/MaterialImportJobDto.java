@@ -0,0 +1,70 @@
+package com.management.materials.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.management.materials.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de response con el estado y progreso de un trabajo de importación
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MaterialImportJobDto {
+
+    private Long id;
+    private String fileName;
+    private ImportJobStatus status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private double rowsPerSecond;
+    private String failureMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime lastCheckpointAt;
+    private LocalDateTime finishedAt;
+    private List<MaterialImportErrorDto> errors;
+
+    public MaterialImportJobDto() {}
+
+    // Getters y Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public ImportJobStatus getStatus() { return status; }
+    public void setStatus(ImportJobStatus status) { this.status = status; }
+
+    public long getProcessedRows() { return processedRows; }
+    public void setProcessedRows(long processedRows) { this.processedRows = processedRows; }
+
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+
+    public long getFailedRows() { return failedRows; }
+    public void setFailedRows(long failedRows) { this.failedRows = failedRows; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public String getFailureMessage() { return failureMessage; }
+    public void setFailureMessage(String failureMessage) { this.failureMessage = failureMessage; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getLastCheckpointAt() { return lastCheckpointAt; }
+    public void setLastCheckpointAt(LocalDateTime lastCheckpointAt) { this.lastCheckpointAt = lastCheckpointAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public List<MaterialImportErrorDto> getErrors() { return errors; }
+    public void setErrors(List<MaterialImportErrorDto> errors) { this.errors = errors; }
+}
@@ -1,5 +1,6 @@
 package com.management.materials.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.management.materials.enums.MaterialStatus;
 import com.management.materials.enums.MaterialType;
 
@@ -21,6 +22,13 @@ public class MaterialResponseDto {
     private MaterialStatus status;
     private CityResponseDto city;
 
+    /**
+     * Versión del material (bloqueo optimista) para enviarla en If-Match; se omite
+     * en las respuestas construidas desde proyecciones
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
     public MaterialResponseDto() {}
 
     public MaterialResponseDto(Long id, String name, String description, MaterialType type,
@@ -64,4 +72,7 @@ public class MaterialResponseDto {
 
     public CityResponseDto getCity() { return city; }
     public void setCity(CityResponseDto city) { this.city = city; }
-}
\ No newline at end of file
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,44 @@
+package com.management.materials.dto.response;
+
+import com.management.materials.enums.MaterialStatsGrouping;
+
+import java.util.List;
+
+/**
+ * Estadísticas agregadas de materiales: totales de los filtros aplicados y detalle por grupo
+ */
+public class MaterialStatsDto {
+
+    /**
+     * Origen de las estadísticas: consulta sobre los materiales o resumen precalculado
+     */
+    public enum Source { LIVE, SUMMARY }
+
+    private MaterialStatsGrouping groupBy;
+    private Source source;
+    private MaterialStatsGroupDto total;
+    private List<MaterialStatsGroupDto> groups;
+
+    public MaterialStatsDto() {}
+
+    public MaterialStatsDto(MaterialStatsGrouping groupBy, Source source, MaterialStatsGroupDto total,
+                            List<MaterialStatsGroupDto> groups) {
+        this.groupBy = groupBy;
+        this.source = source;
+        this.total = total;
+        this.groups = groups;
+    }
+
+    // Getters y Setters
+    public MaterialStatsGrouping getGroupBy() { return groupBy; }
+    public void setGroupBy(MaterialStatsGrouping groupBy) { this.groupBy = groupBy; }
+
+    public Source getSource() { return source; }
+    public void setSource(Source source) { this.source = source; }
+
+    public MaterialStatsGroupDto getTotal() { return total; }
+    public void setTotal(MaterialStatsGroupDto total) { this.total = total; }
+
+    public List<MaterialStatsGroupDto> getGroups() { return groups; }
+    public void setGroups(List<MaterialStatsGroupDto> groups) { this.groups = groups; }
+}
@@ -0,0 +1,52 @@
+package com.management.materials.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Estadísticas de un grupo de materiales (tipo, estado, ciudad, departamento o mes de compra)
+ */
+public class MaterialStatsGroupDto {
+
+    private String key;
+    private String label;
+    private long count;
+    private BigDecimal totalPrice;
+    private BigDecimal averagePrice;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+
+    public MaterialStatsGroupDto() {}
+
+    public MaterialStatsGroupDto(String key, String label, long count, BigDecimal totalPrice,
+                                 BigDecimal averagePrice, BigDecimal minPrice, BigDecimal maxPrice) {
+        this.key = key;
+        this.label = label;
+        this.count = count;
+        this.totalPrice = totalPrice;
+        this.averagePrice = averagePrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    // Getters y Setters
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public BigDecimal getTotalPrice() { return totalPrice; }
+    public void setTotalPrice(BigDecimal totalPrice) { this.totalPrice = totalPrice; }
+
+    public BigDecimal getAveragePrice() { return averagePrice; }
+    public void setAveragePrice(BigDecimal averagePrice) { this.averagePrice = averagePrice; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+    public void setMinPrice(BigDecimal minPrice) { this.minPrice = minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
+}
@@ -0,0 +1,24 @@
+package com.management.materials.dto.response;
+
+/**
+ * DTO de respuesta para sugerencias de autocompletado de materiales
+ */
+public class MaterialSuggestionDto {
+
+    private Long id;
+    private String name;
+
+    public MaterialSuggestionDto() {}
+
+    public MaterialSuggestionDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    // Getters y Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
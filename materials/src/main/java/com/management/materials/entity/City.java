@@ -3,16 +3,26 @@ package com.management.materials.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 /**
- * Entidad que representa una Ciudad
+ * Entidad que representa una Ciudad.
+ * Dato de referencia de solo lectura: se guarda en la caché de segundo nivel.
  */
 @Entity
-@Table(name = "cities")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "cities")
+@Table(name = "cities", indexes = {
+        // findByDepartmentCode y consultas de materiales por departamento (join cities -> materials).
+        // Solo la llave foránea: así es también el índice de la FK en H2
+        @Index(name = City.INDEX_DEPARTMENT, columnList = "department_code")
+})
 public class City {
 
+    public static final String INDEX_DEPARTMENT = "idx_cities_department";
+
     @Id
     @NotBlank(message = "El código de la ciudad es obligatorio")
     @Size(min = 2, max = 10, message = "El código debe tener entre 2 y 10 caracteres")
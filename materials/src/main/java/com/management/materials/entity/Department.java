@@ -3,13 +3,17 @@ package com.management.materials.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 /**
- * Entidad que representa un Departamento
+ * Entidad que representa un Departamento.
+ * Dato de referencia de solo lectura: se guarda en la caché de segundo nivel.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "departments")
 @Table(name = "departments")
 public class Department {
 
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,11 +17,42 @@ import java.time.LocalDateTime;
  * Entidad que representa un Material en el sistema
  */
 @Entity
-@Table(name = "materials")
+@Table(name = "materials", indexes = {
+        // Orden por defecto (fecha de compra DESC, ID DESC), paginación por cursor y findRowsByPurchaseDate
+        @Index(name = Material.INDEX_PURCHASE_DATE, columnList = "purchase_date DESC, id DESC"),
+        // findRowsByType y búsqueda con tipo (+ fecha), en el orden de los listados
+        @Index(name = Material.INDEX_TYPE, columnList = "type, purchase_date DESC, id DESC"),
+        // findRowsByCityCode, búsqueda con ciudad y join desde cities en findRowsByDepartmentCode.
+        // Solo la llave foránea: así es también el índice de la FK en H2 (PostgreSQL no indexa las FK)
+        @Index(name = Material.INDEX_CITY, columnList = "city_code"),
+        // MAX(updated_at): versión de la colección (ETag) y reconciliación del índice de sugerencias
+        @Index(name = Material.INDEX_UPDATED_AT, columnList = "updated_at")
+})
+@NamedEntityGraph(
+        name = Material.GRAPH_CITY_DEPARTMENT,
+        attributeNodes = @NamedAttributeNode(value = "city", subgraph = "city"),
+        subgraphs = @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("department"))
+)
 public class Material {
 
+    /**
+     * Grafo que carga la ciudad y su departamento en la misma consulta
+     */
+    public static final String GRAPH_CITY_DEPARTMENT = "Material.cityAndDepartment";
+
+    public static final String INDEX_PURCHASE_DATE = "idx_materials_purchase_date_id";
+    public static final String INDEX_TYPE = "idx_materials_type_purchase_date";
+    public static final String INDEX_CITY = "idx_materials_city_code";
+    public static final String INDEX_UPDATED_AT = "idx_materials_updated_at";
+
+    /**
+     * Secuencia con asignación en bloque (pooled) para permitir inserciones por lotes JDBC
+     */
+    public static final String ID_SEQUENCE = "materials_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
@@ -66,6 +98,14 @@ public class Material {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Versión para el bloqueo optimista; se incrementa en cada actualización
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Constructores
     public Material() {}
 
@@ -114,6 +154,9 @@ public class Material {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -129,8 +172,10 @@ public class Material {
 
     /**
      * Valida que la fecha de compra no sea posterior a la fecha de venta
+     *
+     * @throws IllegalArgumentException si las fechas son inconsistentes
      */
-    private void validateDates() {
+    public void validateDates() {
         if (saleDate != null && purchaseDate.isAfter(saleDate)) {
             throw new IllegalArgumentException("La fecha de compra no puede ser posterior a la fecha de venta");
         }
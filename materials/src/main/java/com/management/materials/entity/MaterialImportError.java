@@ -0,0 +1,46 @@
+package com.management.materials.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Error de una fila de un trabajo de importación de materiales
+ */
+@Entity
+@Table(name = "material_import_errors", indexes = @Index(name = "idx_material_import_errors_job", columnList = "job_id, line_number"))
+public class MaterialImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(name = "message", nullable = false, length = 1000)
+    private String message;
+
+    // Constructores
+    public MaterialImportError() {}
+
+    public MaterialImportError(Long jobId, long lineNumber, String message) {
+        this.jobId = jobId;
+        this.lineNumber = lineNumber;
+        this.message = message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    // Getters y Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public long getLineNumber() { return lineNumber; }
+    public void setLineNumber(long lineNumber) { this.lineNumber = lineNumber; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
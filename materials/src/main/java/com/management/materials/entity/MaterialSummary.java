@@ -0,0 +1,43 @@
+package com.management.materials.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Resumen precalculado de materiales por departamento, tipo, estado y mes de compra.
+ * Se mantiene de forma incremental en la misma transacción que cada cambio de material
+ * y se reconcilia periódicamente contra la tabla de materiales.
+ */
+@Entity
+@Table(name = "material_summary")
+public class MaterialSummary {
+
+    @EmbeddedId
+    private MaterialSummaryId id;
+
+    @Column(name = "material_count", nullable = false)
+    private long materialCount;
+
+    @Column(name = "total_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPrice;
+
+    // Constructores
+    public MaterialSummary() {}
+
+    public MaterialSummary(MaterialSummaryId id, long materialCount, BigDecimal totalPrice) {
+        this.id = id;
+        this.materialCount = materialCount;
+        this.totalPrice = totalPrice;
+    }
+
+    // Getters y Setters
+    public MaterialSummaryId getId() { return id; }
+    public void setId(MaterialSummaryId id) { this.id = id; }
+
+    public long getMaterialCount() { return materialCount; }
+    public void setMaterialCount(long materialCount) { this.materialCount = materialCount; }
+
+    public BigDecimal getTotalPrice() { return totalPrice; }
+    public void setTotalPrice(BigDecimal totalPrice) { this.totalPrice = totalPrice; }
+}
@@ -0,0 +1,83 @@
+package com.management.materials.entity;
+
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Llave del resumen de materiales: departamento, tipo, estado y mes de compra
+ */
+@Embeddable
+public class MaterialSummaryId implements Serializable {
+
+    /**
+     * Orden total de las llaves; los cambios se aplican en este orden para evitar bloqueos cruzados
+     */
+    public static final Comparator<MaterialSummaryId> ORDER = Comparator
+            .comparing(MaterialSummaryId::getDepartmentCode)
+            .thenComparing(MaterialSummaryId::getType)
+            .thenComparing(MaterialSummaryId::getStatus)
+            .thenComparing(MaterialSummaryId::getPurchaseMonth);
+
+    @Column(name = "department_code", nullable = false, length = 10)
+    private String departmentCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private MaterialType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MaterialStatus status;
+
+    /**
+     * Primer día del mes de compra
+     */
+    @Column(name = "purchase_month", nullable = false)
+    private LocalDate purchaseMonth;
+
+    // Constructores
+    public MaterialSummaryId() {}
+
+    public MaterialSummaryId(String departmentCode, MaterialType type, MaterialStatus status, LocalDate purchaseDate) {
+        this.departmentCode = departmentCode;
+        this.type = type;
+        this.status = status;
+        this.purchaseMonth = purchaseDate.withDayOfMonth(1);
+    }
+
+    // Getters
+    public String getDepartmentCode() { return departmentCode; }
+
+    public MaterialType getType() { return type; }
+
+    public MaterialStatus getStatus() { return status; }
+
+    public LocalDate getPurchaseMonth() { return purchaseMonth; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MaterialSummaryId that)) return false;
+        return Objects.equals(departmentCode, that.departmentCode) && type == that.type
+                && status == that.status && Objects.equals(purchaseMonth, that.purchaseMonth);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(departmentCode, type, status, purchaseMonth);
+    }
+
+    @Override
+    public String toString() {
+        return departmentCode + "/" + type + "/" + status + "/" + purchaseMonth;
+    }
+}
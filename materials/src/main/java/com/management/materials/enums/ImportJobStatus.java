@@ -0,0 +1,21 @@
+package com.management.materials.enums;
+
+/**
+ * Enum que define los estados de un trabajo de importación de materiales
+ */
+public enum ImportJobStatus {
+    PENDING("Pendiente"),
+    RUNNING("En ejecución"),
+    COMPLETED("Completado"),
+    FAILED("Fallido");
+
+    private final String displayName;
+
+    ImportJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
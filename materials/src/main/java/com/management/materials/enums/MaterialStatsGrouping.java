@@ -0,0 +1,22 @@
+package com.management.materials.enums;
+
+/**
+ * Criterios de agrupación para las estadísticas de materiales
+ */
+public enum MaterialStatsGrouping {
+    TYPE("Tipo"),
+    STATUS("Estado"),
+    CITY("Ciudad"),
+    DEPARTMENT("Departamento"),
+    PURCHASE_MONTH("Mes de compra");
+
+    private final String displayName;
+
+    MaterialStatsGrouping(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
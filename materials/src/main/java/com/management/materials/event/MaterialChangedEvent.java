@@ -0,0 +1,122 @@
+package com.management.materials.event;
+
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado por el servicio de materiales al crear, actualizar o eliminar un material.
+ * Contiene instantáneas inmutables del material antes y después del cambio para que los
+ * oyentes transaccionales (AFTER_COMMIT) no dependan de entidades administradas.
+ */
+public class MaterialChangedEvent {
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private final ChangeType changeType;
+    private final MaterialSnapshot before;
+    private final MaterialSnapshot after;
+
+    private MaterialChangedEvent(ChangeType changeType, MaterialSnapshot before, MaterialSnapshot after) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static MaterialChangedEvent created(MaterialSnapshot after) {
+        return new MaterialChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static MaterialChangedEvent updated(MaterialSnapshot before, MaterialSnapshot after) {
+        return new MaterialChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static MaterialChangedEvent deleted(MaterialSnapshot before) {
+        return new MaterialChangedEvent(ChangeType.DELETED, before, null);
+    }
+
+    public ChangeType getChangeType() { return changeType; }
+
+    /**
+     * Estado previo al cambio (null en creaciones)
+     */
+    public MaterialSnapshot getBefore() { return before; }
+
+    /**
+     * Estado posterior al cambio (null en eliminaciones)
+     */
+    public MaterialSnapshot getAfter() { return after; }
+
+    public Long getMaterialId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    @Override
+    public String toString() {
+        return "MaterialChangedEvent{" + changeType + ", id=" + getMaterialId() + "}";
+    }
+
+    /**
+     * Copia inmutable de los campos de un material
+     */
+    public static final class MaterialSnapshot {
+
+        private final Long id;
+        private final String name;
+        private final String description;
+        private final MaterialType type;
+        private final BigDecimal price;
+        private final LocalDate purchaseDate;
+        private final MaterialStatus status;
+        private final String cityCode;
+        private final String departmentCode;
+        private final LocalDateTime updatedAt;
+
+        private MaterialSnapshot(Material material, String departmentCode) {
+            this.id = material.getId();
+            this.name = material.getName();
+            this.description = material.getDescription();
+            this.type = material.getType();
+            this.price = material.getPrice();
+            this.purchaseDate = material.getPurchaseDate();
+            this.status = material.getStatus();
+            this.cityCode = material.getCity() != null ? material.getCity().getCode() : null;
+            this.departmentCode = departmentCode;
+            this.updatedAt = material.getUpdatedAt();
+        }
+
+        /**
+         * Instantánea con el departamento ya conocido (p. ej. desde la caché de referencia).
+         * No recorre material.getCity().getDepartment(): con la ciudad como referencia perezosa
+         * eso la cargaría (o fallaría si el contexto de persistencia ya se limpió).
+         */
+        public static MaterialSnapshot of(Material material, String departmentCode) {
+            return new MaterialSnapshot(material, departmentCode);
+        }
+
+        // Getters
+        public Long getId() { return id; }
+
+        public String getName() { return name; }
+
+        public String getDescription() { return description; }
+
+        public MaterialType getType() { return type; }
+
+        public BigDecimal getPrice() { return price; }
+
+        public LocalDate getPurchaseDate() { return purchaseDate; }
+
+        public MaterialStatus getStatus() { return status; }
+
+        public String getCityCode() { return cityCode; }
+
+        public String getDepartmentCode() { return departmentCode; }
+
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -48,6 +49,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Maneja precondiciones no cumplidas (If-Match con una versión desactualizada)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+
+        logger.warn("Precondición no cumplida: {}", ex.getMessage());
+
+        ApiResponseDto<Object> response = ApiResponseDto.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    /**
+     * Maneja conflictos de bloqueo optimista (modificación concurrente sin If-Match)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex, WebRequest request) {
+
+        logger.warn("Conflicto de modificación concurrente: {}", ex.getMessage());
+
+        ApiResponseDto<Object> response = ApiResponseDto.error(
+                "El recurso fue modificado por otra solicitud; consulte la versión vigente e intente de nuevo");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * Maneja errores de validación de datos
      */
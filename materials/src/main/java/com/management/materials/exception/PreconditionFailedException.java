@@ -0,0 +1,15 @@
+package com.management.materials.exception;
+
+/**
+ * Excepción para precondiciones HTTP no cumplidas (If-Match con una versión que ya no es la vigente)
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,12 +1,18 @@
 package com.management.materials.repository;
 
 import com.management.materials.entity.City;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para la entidad City
@@ -15,18 +21,36 @@ import java.util.List;
 public interface CityRepository extends JpaRepository<City, String> {
 
     /**
-     * Busca ciudades por código de departamento
+     * Busca una ciudad por código junto con su departamento
      */
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Optional<City> findById(String code);
+
+    /**
+     * Busca ciudades por una lista de códigos junto con su departamento
+     */
+    @EntityGraph(attributePaths = "department")
+    List<City> findByCodeIn(Collection<String> codes);
+
+    /**
+     * Busca ciudades por código de departamento (resultado en la caché de consultas)
+     */
+    @EntityGraph(attributePaths = "department")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM City c WHERE c.department.code = :departmentCode")
     List<City> findByDepartmentCode(@Param("departmentCode") String departmentCode);
 
     /**
      * Busca ciudades por nombre (búsqueda parcial)
      */
+    @EntityGraph(attributePaths = "department")
     List<City> findByNameContainingIgnoreCase(String name);
 
     /**
-     * Busca ciudades ordenadas por nombre
+     * Busca ciudades ordenadas por nombre (resultado en la caché de consultas)
      */
+    @EntityGraph(attributePaths = "department")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<City> findAllByOrderByNameAsc();
 }
\ No newline at end of file
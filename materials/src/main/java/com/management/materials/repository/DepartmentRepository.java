@@ -1,7 +1,10 @@
 package com.management.materials.repository;
 
 import com.management.materials.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,7 +21,8 @@ public interface DepartmentRepository extends JpaRepository<Department, String>
     List<Department> findByNameContainingIgnoreCase(String name);
 
     /**
-     * Busca departamentos ordenados por nombre
+     * Busca departamentos ordenados por nombre (resultado en la caché de consultas)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Department> findAllByOrderByNameAsc();
 }
\ No newline at end of file
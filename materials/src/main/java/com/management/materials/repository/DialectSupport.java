@@ -0,0 +1,20 @@
+package com.management.materials.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Detección del dialecto de base de datos para las consultas nativas específicas de PostgreSQL
+ */
+final class DialectSupport {
+
+    private DialectSupport() {}
+
+    static boolean isPostgreSql(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
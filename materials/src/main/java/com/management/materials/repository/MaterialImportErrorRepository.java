@@ -0,0 +1,19 @@
+package com.management.materials.repository;
+
+import com.management.materials.entity.MaterialImportError;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio para la entidad MaterialImportError
+ */
+@Repository
+public interface MaterialImportErrorRepository extends JpaRepository<MaterialImportError, Long> {
+
+    /**
+     * Primeros errores de un trabajo de importación por número de línea
+     */
+    List<MaterialImportError> findTop100ByJobIdOrderByLineNumberAsc(Long jobId);
+}
@@ -0,0 +1,49 @@
+package com.management.materials.repository;
+
+import com.management.materials.entity.MaterialImportJob;
+import com.management.materials.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para la entidad MaterialImportJob
+ */
+@Repository
+public interface MaterialImportJobRepository extends JpaRepository<MaterialImportJob, Long> {
+
+    /**
+     * Últimos trabajos de importación creados
+     */
+    List<MaterialImportJob> findTop20ByOrderByCreatedAtDesc();
+
+    /**
+     * Cambia el estado de un trabajo solo si está en el estado esperado
+     *
+     * @return 1 si el trabajo cambió de estado, 0 en caso contrario
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MaterialImportJob j SET j.status = :newStatus, j.failureMessage = NULL " +
+            "WHERE j.id = :id AND j.status = :expectedStatus")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatus") ImportJobStatus expectedStatus,
+                            @Param("newStatus") ImportJobStatus newStatus);
+
+    /**
+     * Marca como fallidos los trabajos que quedaron en los estados indicados
+     *
+     * @return Cantidad de trabajos marcados
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MaterialImportJob j SET j.status = com.management.materials.enums.ImportJobStatus.FAILED, " +
+            "j.failureMessage = :message WHERE j.status IN :statuses")
+    int failJobsInStatus(@Param("statuses") Collection<ImportJobStatus> statuses, @Param("message") String message);
+}
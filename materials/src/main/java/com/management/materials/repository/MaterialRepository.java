@@ -2,67 +2,142 @@ package com.management.materials.repository;
 
 import com.management.materials.entity.Material;
 import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialRow;
+import com.management.materials.repository.projection.MaterialTextRow;
+import com.management.materials.repository.projection.MaterialVersionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la entidad Material
  */
 @Repository
-public interface MaterialRepository extends JpaRepository<Material, Long> {
+public interface MaterialRepository extends JpaRepository<Material, Long>, MaterialSearchRepository,
+        MaterialUpdateRepository {
+
+    /*
+     * Todas las consultas que retornan entidades cargan ciudad y departamento
+     * con el grafo Material.GRAPH_CITY_DEPARTMENT para evitar consultas N+1
+     * al convertir a MaterialResponseDto.
+     */
+
+    /**
+     * Busca un material por ID junto con su ciudad y departamento
+     */
+    @Override
+    @EntityGraph(Material.GRAPH_CITY_DEPARTMENT)
+    Optional<Material> findById(Long id);
 
     /**
-     * Busca materiales por tipo
+     * Busca materiales por tipo como entidades (MaterialRepositoryBenchmark la compara con findRowsByType)
      */
+    @EntityGraph(Material.GRAPH_CITY_DEPARTMENT)
     List<Material> findByType(MaterialType type);
 
+    // ------------------------------------------------------------------
+    // Consultas de solo lectura que proyectan directamente a MaterialRow
+    // ------------------------------------------------------------------
+
+    String MATERIAL_ROW_SELECT = "SELECT new com.management.materials.repository.projection.MaterialRow(" +
+            "m.id, m.name, m.description, m.type, m.price, m.purchaseDate, m.saleDate, m.status, m.version, " +
+            "c.code, c.name, d.code, d.name) " +
+            "FROM Material m JOIN m.city c JOIN c.department d ";
+
+    /**
+     * Filas de materiales por tipo
+     */
+    @Query(MATERIAL_ROW_SELECT + "WHERE m.type = :type")
+    List<MaterialRow> findRowsByType(@Param("type") MaterialType type);
+
     /**
-     * Busca materiales por fecha de compra
+     * Filas de materiales por fecha de compra
      */
-    List<Material> findByPurchaseDate(LocalDate purchaseDate);
+    @Query(MATERIAL_ROW_SELECT + "WHERE m.purchaseDate = :purchaseDate")
+    List<MaterialRow> findRowsByPurchaseDate(@Param("purchaseDate") LocalDate purchaseDate);
 
     /**
-     * Busca materiales por código de ciudad
+     * Filas de materiales por código de ciudad
      */
-    @Query("SELECT m FROM Material m WHERE m.city.code = :cityCode")
-    List<Material> findByCityCode(@Param("cityCode") String cityCode);
+    @Query(MATERIAL_ROW_SELECT + "WHERE c.code = :cityCode")
+    List<MaterialRow> findRowsByCityCode(@Param("cityCode") String cityCode);
 
     /**
-     * Busca materiales por código de departamento
+     * Filas de materiales por código de departamento
      */
-    @Query("SELECT m FROM Material m WHERE m.city.department.code = :departmentCode")
-    List<Material> findByDepartmentCode(@Param("departmentCode") String departmentCode);
+    @Query(MATERIAL_ROW_SELECT + "WHERE d.code = :departmentCode")
+    List<MaterialRow> findRowsByDepartmentCode(@Param("departmentCode") String departmentCode);
 
     /**
-     * Búsqueda avanzada con múltiples filtros
+     * Filas de materiales por nombre (búsqueda parcial, sin distinguir mayúsculas)
      */
-    @Query("SELECT m FROM Material m WHERE " +
-            "(:type IS NULL OR m.type = :type) AND " +
-            "(:purchaseDate IS NULL OR m.purchaseDate = :purchaseDate) AND " +
-            "(:cityCode IS NULL OR m.city.code = :cityCode) AND " +
-            "(:departmentCode IS NULL OR m.city.department.code = :departmentCode)")
-    List<Material> findByFilters(@Param("type") MaterialType type,
-                                 @Param("purchaseDate") LocalDate purchaseDate,
-                                 @Param("cityCode") String cityCode,
-                                 @Param("departmentCode") String departmentCode);
+    @Query(MATERIAL_ROW_SELECT + "WHERE UPPER(m.name) LIKE UPPER(CONCAT('%', :#{escape(#name)}, '%')) " +
+            "ESCAPE :#{escapeCharacter()}")
+    List<MaterialRow> findRowsByNameContaining(@Param("name") String name);
+
+    /**
+     * Filas de materiales por lista de IDs (sin orden garantizado)
+     */
+    @Query(MATERIAL_ROW_SELECT + "WHERE m.id IN :ids")
+    List<MaterialRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Filas de todos los materiales ordenadas por fecha de compra descendente
+     */
+    @Query(MATERIAL_ROW_SELECT + "ORDER BY m.purchaseDate DESC")
+    List<MaterialRow> findAllRowsOrderByPurchaseDateDesc();
+
+    /**
+     * Primera página de filas en orden (fecha de compra DESC, ID DESC)
+     */
+    @Query(MATERIAL_ROW_SELECT + "ORDER BY m.purchaseDate DESC, m.id DESC")
+    List<MaterialRow> findFirstRowPage(Pageable pageable);
+
+    /**
+     * Página de filas posterior al cursor (fecha de compra, ID) en orden descendente
+     */
+    @Query(MATERIAL_ROW_SELECT + "WHERE m.purchaseDate < :purchaseDate " +
+            "OR (m.purchaseDate = :purchaseDate AND m.id < :id) " +
+            "ORDER BY m.purchaseDate DESC, m.id DESC")
+    List<MaterialRow> findRowPageAfter(@Param("purchaseDate") LocalDate purchaseDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    // ------------------------------------------------------------------
+    // Índice de sugerencias en memoria
+    // ------------------------------------------------------------------
 
     /**
-     * Busca materiales por nombre (búsqueda parcial)
+     * Recorre los campos de texto de todos los materiales (requiere una transacción abierta)
      */
-    List<Material> findByNameContainingIgnoreCase(String name);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.management.materials.repository.projection.MaterialTextRow(" +
+            "m.id, m.name, m.description, m.updatedAt) FROM Material m")
+    Stream<MaterialTextRow> streamTextRows();
 
     /**
-     * Cuenta materiales por tipo
+     * Versión y fecha de la última modificación de un material (validadores HTTP), sin cargar la entidad
      */
-    long countByType(MaterialType type);
+    @Query("SELECT new com.management.materials.repository.projection.MaterialVersionRow(" +
+            "m.version, COALESCE(m.updatedAt, m.createdAt)) FROM Material m WHERE m.id = :id")
+    Optional<MaterialVersionRow> findVersionById(@Param("id") Long id);
 
     /**
-     * Busca materiales ordenados por fecha de compra descendente
+     * Fecha de la última modificación registrada en la tabla de materiales (usa el índice de updated_at)
      */
-    List<Material> findAllByOrderByPurchaseDateDesc();
+    @Query("SELECT MAX(m.updatedAt) FROM Material m")
+    LocalDateTime findMaxUpdatedAt();
 }
@@ -0,0 +1,46 @@
+package com.management.materials.repository;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.repository.projection.MaterialRow;
+import com.management.materials.repository.projection.MaterialStatsRow;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Búsqueda dinámica de materiales: la consulta incluye solo los predicados y joins
+ * de los filtros informados, de modo que cada combinación de filtros genera el mismo
+ * SQL y la base de datos puede reutilizar su plan.
+ * Las filas retornadas solo traen el código de ciudad (sin join a cities ni departments).
+ */
+public interface MaterialSearchRepository {
+
+    /**
+     * Filas de materiales que cumplen los filtros, ordenadas por fecha de compra e ID descendentes
+     */
+    List<MaterialRow> searchRows(MaterialSearchDto criteria);
+
+    /**
+     * Recorre las filas de materiales que cumplen los filtros sin cargarlas en memoria.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar (try-with-resources).
+     */
+    Stream<MaterialRow> streamRows(MaterialSearchDto criteria);
+
+    /**
+     * Cantidad y suma, mínimo y máximo del precio de los materiales que cumplen los filtros,
+     * calculados con GROUP BY según la agrupación y ordenados por la llave del grupo
+     */
+    List<MaterialStatsRow> aggregate(MaterialSearchDto criteria, MaterialStatsGrouping groupBy);
+
+    /**
+     * IDs de materiales cuyo nombre o descripción coinciden con el texto, ordenados por relevancia.
+     * En PostgreSQL usa búsqueda de texto completo (tsvector) y trigramas (pg_trgm) sobre el nombre;
+     * en otras bases de datos (H2) usa LIKE sobre nombre y descripción.
+     *
+     * @param text Texto a buscar
+     * @param offset Cantidad de resultados a omitir
+     * @param limit Cantidad máxima de resultados
+     */
+    List<Long> searchIdsByText(String text, int offset, int limit);
+}
@@ -0,0 +1,263 @@
+package com.management.materials.repository;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialRow;
+import com.management.materials.repository.projection.MaterialStatsRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de MaterialSearchRepository con Criteria API.
+ * Los valores se enlazan como parámetros (no literales), así que el SQL solo varía
+ * según qué filtros están presentes.
+ */
+public class MaterialSearchRepositoryImpl implements MaterialSearchRepository {
+
+    /**
+     * Filas leídas por viaje a la base de datos al recorrer con streamRows
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Longitud mínima para buscar subcadenas con trigramas (pg_trgm no usa el índice con menos de 3 caracteres)
+     */
+    static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final char LIKE_ESCAPE = '!';
+
+    /*
+     * Las expresiones deben coincidir con las de los índices de V5__material_text_search.sql
+     */
+    private static final String PG_DOCUMENT = "to_tsvector('spanish', m.name || ' ' || m.description)";
+    private static final String PG_QUERY = "websearch_to_tsquery('spanish', :text)";
+
+    private static final String FALLBACK_TEXT_SEARCH = "SELECT m.id FROM Material m " +
+            "WHERE UPPER(m.name) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "' " +
+            "OR UPPER(m.description) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "' " +
+            "ORDER BY CASE WHEN UPPER(m.name) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "' THEN 1 ELSE 0 END DESC, " +
+            "m.purchaseDate DESC, m.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSql;
+
+    @Override
+    public List<MaterialRow> searchRows(MaterialSearchDto criteria) {
+        return buildQuery(criteria).getResultList();
+    }
+
+    @Override
+    public Stream<MaterialRow> streamRows(MaterialSearchDto criteria) {
+        return buildQuery(criteria)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<MaterialStatsRow> aggregate(MaterialSearchDto criteria, MaterialStatsGrouping groupBy) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Material> material = query.from(Material.class);
+
+        Path<String> cityCode = material.get("city").get("code");
+        Path<LocalDate> purchaseDate = material.get("purchaseDate");
+        Join<Material, City> city = groupBy == MaterialStatsGrouping.DEPARTMENT ? material.join("city") : null;
+
+        List<Expression<?>> keys = switch (groupBy) {
+            case TYPE -> List.of(material.get("type"));
+            case STATUS -> List.of(material.get("status"));
+            case CITY -> List.of(cityCode);
+            // cities.department_code: basta el join con cities
+            case DEPARTMENT -> List.of(city.get("department").get("code"));
+            case PURCHASE_MONTH -> List.of(cb.year(purchaseDate), cb.month(purchaseDate));
+        };
+
+        Path<BigDecimal> price = material.get("price");
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(cb.count(material));
+        selections.add(cb.sum(price));
+        selections.add(cb.min(price));
+        selections.add(cb.max(price));
+
+        query.multiselect(selections);
+        query.where(buildPredicates(cb, material, cityCode, city, criteria).toArray(new Predicate[0]));
+        query.groupBy(keys);
+        query.orderBy(keys.stream().<Order>map(cb::asc).toList());
+
+        int k = keys.size();
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new MaterialStatsRow(
+                        groupKey(tuple, groupBy),
+                        tuple.get(k, Long.class),
+                        tuple.get(k + 1, BigDecimal.class),
+                        tuple.get(k + 2, BigDecimal.class),
+                        tuple.get(k + 3, BigDecimal.class)))
+                .toList();
+    }
+
+    private static String groupKey(Tuple tuple, MaterialStatsGrouping groupBy) {
+        return switch (groupBy) {
+            case TYPE, STATUS -> ((Enum<?>) tuple.get(0)).name();
+            case CITY, DEPARTMENT -> (String) tuple.get(0);
+            case PURCHASE_MONTH -> String.format("%04d-%02d",
+                    ((Number) tuple.get(0)).intValue(), ((Number) tuple.get(1)).intValue());
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> searchIdsByText(String text, int offset, int limit) {
+        String pattern = "%" + escapeLike(text.toUpperCase(Locale.ROOT)) + "%";
+
+        if (!isPostgreSql()) {
+            return entityManager.createQuery(FALLBACK_TEXT_SEARCH, Long.class)
+                    .setParameter("pattern", pattern)
+                    .setFirstResult(offset)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+
+        // Texto completo sobre nombre y descripción; subcadenas del nombre con el índice de trigramas
+        boolean substring = text.length() >= MIN_TRIGRAM_LENGTH;
+        String sql = "SELECT m.id FROM materials m WHERE " + PG_DOCUMENT + " @@ " + PG_QUERY +
+                (substring ? " OR upper(m.name) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "'" : "") +
+                " ORDER BY ts_rank_cd(" + PG_DOCUMENT + ", " + PG_QUERY + ")" +
+                (substring ? " + similarity(upper(m.name), upper(:text))" : "") +
+                " DESC, m.id DESC LIMIT :limit OFFSET :offset";
+
+        Query query = entityManager.createNativeQuery(sql, Long.class)
+                .setParameter("text", text)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        if (substring) {
+            query.setParameter("pattern", pattern);
+        }
+        return query.getResultList();
+    }
+
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = DialectSupport.isPostgreSql(entityManager);
+        }
+        return postgreSql;
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private TypedQuery<MaterialRow> buildQuery(MaterialSearchDto criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MaterialRow> query = cb.createQuery(MaterialRow.class);
+        Root<Material> material = query.from(Material.class);
+
+        // city.code es la llave foránea de materials: se lee sin join
+        Path<String> cityCode = material.get("city").get("code");
+
+        query.select(cb.construct(MaterialRow.class,
+                material.get("id"),
+                material.get("name"),
+                material.get("description"),
+                material.get("type"),
+                material.get("price"),
+                material.get("purchaseDate"),
+                material.get("saleDate"),
+                material.get("status"),
+                material.get("version"),
+                cityCode));
+
+        query.where(buildPredicates(cb, material, cityCode, null, criteria).toArray(new Predicate[0]));
+        query.orderBy(cb.desc(material.get("purchaseDate")), cb.desc(material.get("id")));
+
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Predicados de los filtros informados; city es el join con cities si la consulta ya lo tiene (o null)
+     */
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Material> material, Path<String> cityCode,
+                                            Join<Material, City> city, MaterialSearchDto criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        Set<MaterialType> types = criteria.resolveTypes();
+        if (types.size() == 1) {
+            predicates.add(cb.equal(material.get("type"), types.iterator().next()));
+        } else if (!types.isEmpty()) {
+            predicates.add(material.get("type").in(types));
+        }
+
+        Path<LocalDate> purchaseDate = material.get("purchaseDate");
+        if (criteria.getPurchaseDate() != null) {
+            predicates.add(cb.equal(purchaseDate, criteria.getPurchaseDate()));
+        }
+        if (criteria.getPurchaseDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(purchaseDate, criteria.getPurchaseDateFrom()));
+        }
+        if (criteria.getPurchaseDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(purchaseDate, criteria.getPurchaseDateTo()));
+        }
+
+        Path<BigDecimal> price = material.get("price");
+        if (criteria.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(price, criteria.getMinPrice()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(price, criteria.getMaxPrice()));
+        }
+
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(material.get("status"), criteria.getStatus()));
+        }
+
+        if (hasText(criteria.getCityCode())) {
+            predicates.add(cb.equal(cityCode, criteria.getCityCode()));
+        }
+
+        // Solo el filtro por departamento requiere el join con cities
+        if (hasText(criteria.getDepartmentCode())) {
+            Join<Material, City> cityJoin = city != null ? city : material.join("city");
+            predicates.add(cb.equal(cityJoin.get("department").get("code"), criteria.getDepartmentCode()));
+        }
+
+        return predicates;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
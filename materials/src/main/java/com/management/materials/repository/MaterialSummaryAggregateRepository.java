@@ -0,0 +1,33 @@
+package com.management.materials.repository;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.MaterialSummary;
+import com.management.materials.entity.MaterialSummaryId;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.repository.projection.MaterialStatsRow;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Mantenimiento y consulta del resumen precalculado de materiales
+ */
+public interface MaterialSummaryAggregateRepository {
+
+    /**
+     * Suma los deltas a la fila del resumen, creándola si no existe (upsert atómico)
+     */
+    void applyDelta(MaterialSummaryId id, long countDelta, BigDecimal priceDelta);
+
+    /**
+     * Calcula el resumen completo desde la tabla de materiales (filas no administradas)
+     */
+    List<MaterialSummary> computeFromMaterials();
+
+    /**
+     * Cantidad y suma del precio desde el resumen, agrupadas según la agrupación.
+     * Solo aplica los filtros por departamento, tipos, estado y rango de meses de compra;
+     * mínimo y máximo no se conservan en el resumen.
+     */
+    List<MaterialStatsRow> aggregate(MaterialSearchDto criteria, MaterialStatsGrouping groupBy);
+}
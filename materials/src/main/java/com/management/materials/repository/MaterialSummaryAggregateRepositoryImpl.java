@@ -0,0 +1,175 @@
+package com.management.materials.repository;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Material;
+import com.management.materials.entity.MaterialSummary;
+import com.management.materials.entity.MaterialSummaryId;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialStatsRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación de MaterialSummaryAggregateRepository.
+ * El upsert es nativo: ON CONFLICT en PostgreSQL y MERGE estándar en otras bases de datos (H2).
+ */
+public class MaterialSummaryAggregateRepositoryImpl implements MaterialSummaryAggregateRepository {
+
+    private static final String POSTGRESQL_UPSERT = "INSERT INTO material_summary " +
+            "(department_code, type, status, purchase_month, material_count, total_price) " +
+            "VALUES (:departmentCode, :type, :status, :purchaseMonth, :countDelta, :priceDelta) " +
+            "ON CONFLICT (department_code, type, status, purchase_month) DO UPDATE SET " +
+            "material_count = material_summary.material_count + EXCLUDED.material_count, " +
+            "total_price = material_summary.total_price + EXCLUDED.total_price";
+
+    private static final String STANDARD_UPSERT = "MERGE INTO material_summary s USING (VALUES (" +
+            "CAST(:departmentCode AS VARCHAR(10)), CAST(:type AS VARCHAR(20)), CAST(:status AS VARCHAR(20)), " +
+            "CAST(:purchaseMonth AS DATE), CAST(:countDelta AS BIGINT), CAST(:priceDelta AS NUMERIC(19, 2)))) " +
+            "AS d (department_code, type, status, purchase_month, material_count, total_price) " +
+            "ON s.department_code = d.department_code AND s.type = d.type AND s.status = d.status " +
+            "AND s.purchase_month = d.purchase_month " +
+            "WHEN MATCHED THEN UPDATE SET material_count = s.material_count + d.material_count, " +
+            "total_price = s.total_price + d.total_price " +
+            "WHEN NOT MATCHED THEN INSERT (department_code, type, status, purchase_month, material_count, total_price) " +
+            "VALUES (d.department_code, d.type, d.status, d.purchase_month, d.material_count, d.total_price)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String upsertSql;
+
+    @Override
+    public void applyDelta(MaterialSummaryId id, long countDelta, BigDecimal priceDelta) {
+        if (upsertSql == null) {
+            upsertSql = DialectSupport.isPostgreSql(entityManager) ? POSTGRESQL_UPSERT : STANDARD_UPSERT;
+        }
+
+        entityManager.createNativeQuery(upsertSql)
+                .setParameter("departmentCode", id.getDepartmentCode())
+                .setParameter("type", id.getType().name())
+                .setParameter("status", id.getStatus().name())
+                .setParameter("purchaseMonth", id.getPurchaseMonth())
+                .setParameter("countDelta", countDelta)
+                .setParameter("priceDelta", priceDelta)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<MaterialSummary> computeFromMaterials() {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Material> material = query.from(Material.class);
+        Join<Material, City> city = material.join("city");
+
+        Path<LocalDate> purchaseDate = material.get("purchaseDate");
+        Path<BigDecimal> price = material.get("price");
+        List<Expression<?>> keys = List.of(
+                city.get("department").get("code"),
+                material.get("type"),
+                material.get("status"),
+                cb.year(purchaseDate),
+                cb.month(purchaseDate));
+
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(cb.count(material));
+        selections.add(cb.sum(price));
+        query.multiselect(selections);
+        query.groupBy(keys);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new MaterialSummary(
+                        new MaterialSummaryId(
+                                tuple.get(0, String.class),
+                                tuple.get(1, MaterialType.class),
+                                tuple.get(2, MaterialStatus.class),
+                                LocalDate.of(((Number) tuple.get(3)).intValue(), ((Number) tuple.get(4)).intValue(), 1)),
+                        tuple.get(5, Long.class),
+                        tuple.get(6, BigDecimal.class)))
+                .toList();
+    }
+
+    @Override
+    public List<MaterialStatsRow> aggregate(MaterialSearchDto criteria, MaterialStatsGrouping groupBy) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<MaterialSummary> summary = query.from(MaterialSummary.class);
+        Path<MaterialSummaryId> id = summary.get("id");
+
+        Expression<?> key = switch (groupBy) {
+            case TYPE -> id.get("type");
+            case STATUS -> id.get("status");
+            case DEPARTMENT -> id.get("departmentCode");
+            case PURCHASE_MONTH -> id.get("purchaseMonth");
+            case CITY -> throw new IllegalArgumentException("El resumen no se agrupa por ciudad");
+        };
+
+        Expression<Long> count = cb.sum(summary.<Long>get("materialCount"));
+        query.multiselect(key, count, cb.sum(summary.<BigDecimal>get("totalPrice")));
+        query.where(buildPredicates(cb, id, criteria).toArray(new Predicate[0]));
+        query.groupBy(key);
+        // Las filas con cantidad 0 quedan tras eliminar todos los materiales de un grupo
+        query.having(cb.greaterThan(count, 0L));
+        query.orderBy(List.<Order>of(cb.asc(key)));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new MaterialStatsRow(
+                        groupKey(tuple.get(0), groupBy),
+                        tuple.get(1, Long.class),
+                        tuple.get(2, BigDecimal.class),
+                        null,
+                        null))
+                .toList();
+    }
+
+    private static String groupKey(Object key, MaterialStatsGrouping groupBy) {
+        if (groupBy == MaterialStatsGrouping.PURCHASE_MONTH) {
+            return YearMonth.from((LocalDate) key).toString();
+        }
+        return key instanceof Enum<?> value ? value.name() : (String) key;
+    }
+
+    private static List<Predicate> buildPredicates(HibernateCriteriaBuilder cb, Path<MaterialSummaryId> id,
+                                                   MaterialSearchDto criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        Set<MaterialType> types = criteria.resolveTypes();
+        if (!types.isEmpty()) {
+            predicates.add(id.get("type").in(types));
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(id.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getDepartmentCode() != null && !criteria.getDepartmentCode().isBlank()) {
+            predicates.add(cb.equal(id.get("departmentCode"), criteria.getDepartmentCode()));
+        }
+
+        Path<LocalDate> purchaseMonth = id.get("purchaseMonth");
+        if (criteria.getPurchaseDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(purchaseMonth, criteria.getPurchaseDateFrom().withDayOfMonth(1)));
+        }
+        if (criteria.getPurchaseDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(purchaseMonth, criteria.getPurchaseDateTo().withDayOfMonth(1)));
+        }
+        return predicates;
+    }
+}
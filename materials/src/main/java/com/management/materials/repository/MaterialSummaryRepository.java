@@ -0,0 +1,33 @@
+package com.management.materials.repository;
+
+import com.management.materials.entity.MaterialSummary;
+import com.management.materials.entity.MaterialSummaryId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio para la entidad MaterialSummary
+ */
+@Repository
+public interface MaterialSummaryRepository extends JpaRepository<MaterialSummary, MaterialSummaryId>,
+        MaterialSummaryAggregateRepository {
+
+    /**
+     * Todas las filas del resumen, bloqueadas para escritura hasta el fin de la transacción.
+     * Los cambios incrementales concurrentes esperan a que termine la reconciliación.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MaterialSummary s")
+    List<MaterialSummary> findAllForUpdate();
+
+    /**
+     * Cantidad total de materiales según el resumen, sin recorrer la tabla de materiales
+     */
+    @Query("SELECT COALESCE(SUM(s.materialCount), 0) FROM MaterialSummary s")
+    long sumMaterialCount();
+}
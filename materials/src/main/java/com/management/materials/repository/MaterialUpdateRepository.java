@@ -0,0 +1,26 @@
+package com.management.materials.repository;
+
+import com.management.materials.entity.Material;
+import com.management.materials.repository.projection.MaterialRow;
+
+import java.util.Optional;
+
+/**
+ * Actualizaciones condicionales de materiales: el cliente informa la versión que conoce (If-Match)
+ * y la actualización se aplica solo si sigue siendo la vigente, sin cargar antes la entidad.
+ */
+public interface MaterialUpdateRepository {
+
+    /**
+     * Reemplaza los datos del material si su versión es la esperada e incrementa la versión.
+     * No pasa por el contexto de persistencia: no ejecuta los callbacks de la entidad, por lo que
+     * las fechas deben venir validadas y la fecha de modificación asignada en {@code values}.
+     *
+     * @param id ID del material
+     * @param expectedVersion Versión que debe tener el material
+     * @param values Nuevos datos (nombre, descripción, tipo, precio, fechas, estado, ciudad y fecha de modificación)
+     * @return Estado previo del material (solo con el código de ciudad); vacío si el material
+     *         no existe o su versión ya no es la esperada
+     */
+    Optional<MaterialRow> updateIfVersion(Long id, long expectedVersion, Material values);
+}
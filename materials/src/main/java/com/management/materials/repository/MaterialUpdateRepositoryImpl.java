@@ -0,0 +1,132 @@
+package com.management.materials.repository;
+
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de MaterialUpdateRepository.
+ * En PostgreSQL la comparación de versión, la actualización y la lectura del estado previo son una
+ * única sentencia (UPDATE ... FROM ... RETURNING); en otras bases de datos (H2) se lee el estado
+ * previo con la versión esperada y se actualiza con la misma condición.
+ */
+public class MaterialUpdateRepositoryImpl implements MaterialUpdateRepository {
+
+    /**
+     * La subconsulta bloquea la fila con la versión esperada y conserva sus valores previos para RETURNING
+     */
+    private static final String POSTGRESQL_UPDATE = "UPDATE materials m SET " +
+            "name = :name, description = :description, type = :type, price = :price, " +
+            "purchase_date = :purchaseDate, sale_date = :saleDate, status = :status, city_code = :cityCode, " +
+            "updated_at = :updatedAt, version = m.version + 1 " +
+            "FROM (SELECT id, name, description, type, price, purchase_date, sale_date, status, version, city_code " +
+            "FROM materials WHERE id = :id AND version = :version FOR UPDATE) old " +
+            "WHERE m.id = old.id " +
+            "RETURNING old.id, old.name, old.description, old.type, old.price, " +
+            "old.purchase_date, old.sale_date, old.status, old.version, old.city_code";
+
+    private static final String SELECT_PREVIOUS = "SELECT new com.management.materials.repository.projection.MaterialRow(" +
+            "m.id, m.name, m.description, m.type, m.price, m.purchaseDate, m.saleDate, m.status, m.version, m.city.code) " +
+            "FROM Material m WHERE m.id = :id AND m.version = :version";
+
+    private static final String UPDATE_IF_VERSION = "UPDATE Material m SET " +
+            "m.name = :name, m.description = :description, m.type = :type, m.price = :price, " +
+            "m.purchaseDate = :purchaseDate, m.saleDate = :saleDate, m.status = :status, m.city = :city, " +
+            "m.updatedAt = :updatedAt, m.version = m.version + 1 " +
+            "WHERE m.id = :id AND m.version = :version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSql;
+
+    @Override
+    public Optional<MaterialRow> updateIfVersion(Long id, long expectedVersion, Material values) {
+        if (postgreSql == null) {
+            postgreSql = DialectSupport.isPostgreSql(entityManager);
+        }
+        return postgreSql
+                ? updateReturningPrevious(id, expectedVersion, values)
+                : readAndUpdate(id, expectedVersion, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<MaterialRow> updateReturningPrevious(Long id, long expectedVersion, Material values) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(POSTGRESQL_UPDATE)
+                .unwrap(NativeQuery.class);
+
+        List<Object[]> previous = query
+                .setParameter("name", values.getName())
+                .setParameter("description", values.getDescription())
+                .setParameter("type", values.getType().name())
+                .setParameter("price", values.getPrice())
+                .setParameter("purchaseDate", values.getPurchaseDate(), StandardBasicTypes.LOCAL_DATE)
+                // Tipo explícito: la fecha de venta puede ser null
+                .setParameter("saleDate", values.getSaleDate(), StandardBasicTypes.LOCAL_DATE)
+                .setParameter("status", values.getStatus().name())
+                .setParameter("cityCode", values.getCity().getCode())
+                .setParameter("updatedAt", values.getUpdatedAt(), StandardBasicTypes.LOCAL_DATE_TIME)
+                .setParameter("id", id)
+                .setParameter("version", expectedVersion)
+                .addScalar("id", Long.class)
+                .addScalar("name", String.class)
+                .addScalar("description", String.class)
+                .addScalar("type", String.class)
+                .addScalar("price", BigDecimal.class)
+                .addScalar("purchase_date", LocalDate.class)
+                .addScalar("sale_date", LocalDate.class)
+                .addScalar("status", String.class)
+                .addScalar("version", Long.class)
+                .addScalar("city_code", String.class)
+                .getResultList();
+
+        return previous.stream().findFirst().map(row -> new MaterialRow(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                MaterialType.valueOf((String) row[3]),
+                (BigDecimal) row[4],
+                (LocalDate) row[5],
+                (LocalDate) row[6],
+                MaterialStatus.valueOf((String) row[7]),
+                (Long) row[8],
+                (String) row[9]));
+    }
+
+    private Optional<MaterialRow> readAndUpdate(Long id, long expectedVersion, Material values) {
+        Optional<MaterialRow> previous = entityManager.createQuery(SELECT_PREVIOUS, MaterialRow.class)
+                .setParameter("id", id)
+                .setParameter("version", expectedVersion)
+                .getResultStream()
+                .findFirst();
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Si otra transacción cambió la versión entre ambas sentencias no se actualiza ninguna fila
+        int updated = entityManager.createQuery(UPDATE_IF_VERSION)
+                .setParameter("name", values.getName())
+                .setParameter("description", values.getDescription())
+                .setParameter("type", values.getType())
+                .setParameter("price", values.getPrice())
+                .setParameter("purchaseDate", values.getPurchaseDate())
+                .setParameter("saleDate", values.getSaleDate())
+                .setParameter("status", values.getStatus())
+                .setParameter("city", values.getCity())
+                .setParameter("updatedAt", values.getUpdatedAt())
+                .setParameter("id", id)
+                .setParameter("version", expectedVersion)
+                .executeUpdate();
+        return updated == 1 ? previous : Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.management.materials.repository.projection;
+
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila plana de material con su ciudad y departamento, obtenida mediante
+ * una expresión constructora JPQL (sin hidratar entidades administradas)
+ */
+public class MaterialRow {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final MaterialType type;
+    private final BigDecimal price;
+    private final LocalDate purchaseDate;
+    private final LocalDate saleDate;
+    private final MaterialStatus status;
+    private final Long version;
+    private final String cityCode;
+    private final String cityName;
+    private final String departmentCode;
+    private final String departmentName;
+
+    public MaterialRow(Long id, String name, String description, MaterialType type, BigDecimal price,
+                       LocalDate purchaseDate, LocalDate saleDate, MaterialStatus status, Long version,
+                       String cityCode, String cityName, String departmentCode, String departmentName) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.type = type;
+        this.price = price;
+        this.purchaseDate = purchaseDate;
+        this.saleDate = saleDate;
+        this.status = status;
+        this.version = version;
+        this.cityCode = cityCode;
+        this.cityName = cityName;
+        this.departmentCode = departmentCode;
+        this.departmentName = departmentName;
+    }
+
+    /**
+     * Fila sin datos de ciudad ni departamento (solo el código de ciudad, sin joins);
+     * el nombre de la ciudad y su departamento se resuelven desde la caché de referencia
+     */
+    public MaterialRow(Long id, String name, String description, MaterialType type, BigDecimal price,
+                       LocalDate purchaseDate, LocalDate saleDate, MaterialStatus status, Long version,
+                       String cityCode) {
+        this(id, name, description, type, price, purchaseDate, saleDate, status, version, cityCode, null, null, null);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getDescription() { return description; }
+
+    public MaterialType getType() { return type; }
+
+    public BigDecimal getPrice() { return price; }
+
+    public LocalDate getPurchaseDate() { return purchaseDate; }
+
+    public LocalDate getSaleDate() { return saleDate; }
+
+    public MaterialStatus getStatus() { return status; }
+
+    public Long getVersion() { return version; }
+
+    public String getCityCode() { return cityCode; }
+
+    public String getCityName() { return cityName; }
+
+    public String getDepartmentCode() { return departmentCode; }
+
+    public String getDepartmentName() { return departmentName; }
+}
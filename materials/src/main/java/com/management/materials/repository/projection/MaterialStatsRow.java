@@ -0,0 +1,34 @@
+package com.management.materials.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila agregada (GROUP BY) de materiales: cantidad y precios de un grupo
+ */
+public class MaterialStatsRow {
+
+    private final String key;
+    private final long count;
+    private final BigDecimal totalPrice;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+
+    public MaterialStatsRow(String key, long count, BigDecimal totalPrice, BigDecimal minPrice, BigDecimal maxPrice) {
+        this.key = key;
+        this.count = count;
+        this.totalPrice = totalPrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    // Getters
+    public String getKey() { return key; }
+
+    public long getCount() { return count; }
+
+    public BigDecimal getTotalPrice() { return totalPrice; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+}
@@ -0,0 +1,30 @@
+package com.management.materials.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila con los campos de texto de un material, usada para construir el índice de sugerencias
+ */
+public class MaterialTextRow {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final LocalDateTime updatedAt;
+
+    public MaterialTextRow(Long id, String name, String description, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getDescription() { return description; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,22 @@
+package com.management.materials.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validadores HTTP de un material: versión (bloqueo optimista) y fecha de la última modificación
+ */
+public class MaterialVersionRow {
+
+    private final Long version;
+    private final LocalDateTime lastModified;
+
+    public MaterialVersionRow(Long version, LocalDateTime lastModified) {
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    // Getters
+    public Long getVersion() { return version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+}
@@ -39,4 +39,9 @@ public interface ICityService {
      * @return Lista de ciudades que contienen el nombre especificado
      */
     List<CityResponseDto> getCitiesByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Versión del contenido de los datos de referencia (validador HTTP); null si la caché aún no está cargada
+     */
+    String getDataVersion();
+}
@@ -30,4 +30,9 @@ public interface IDepartmentService {
      * @return Lista de departamentos que contienen el nombre especificado
      */
     List<DepartmentResponseDto> getDepartmentsByName(String name);
+
+    /**
+     * Versión del contenido de los datos de referencia (validador HTTP); null si la caché aún no está cargada
+     */
+    String getDataVersion();
 }
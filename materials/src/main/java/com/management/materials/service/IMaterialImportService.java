@@ -0,0 +1,45 @@
+package com.management.materials.service;
+
+import com.management.materials.dto.response.MaterialImportJobDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Interface para el servicio de importación de materiales desde archivos CSV
+ */
+public interface IMaterialImportService {
+
+    /**
+     * Guarda el archivo y encola su importación en segundo plano
+     *
+     * @param fileName Nombre original del archivo
+     * @param content Contenido del archivo CSV (se copia a disco sin cargarlo en memoria)
+     * @return Trabajo de importación creado
+     */
+    MaterialImportJobDto startImport(String fileName, InputStream content) throws IOException;
+
+    /**
+     * Obtiene el estado y progreso de un trabajo de importación
+     *
+     * @param id ID del trabajo
+     * @return Trabajo con sus primeros errores
+     */
+    MaterialImportJobDto getJob(Long id);
+
+    /**
+     * Obtiene los trabajos de importación más recientes
+     *
+     * @return Lista de trabajos sin detalle de errores
+     */
+    List<MaterialImportJobDto> getRecentJobs();
+
+    /**
+     * Reanuda un trabajo fallido desde su último punto de control
+     *
+     * @param id ID del trabajo
+     * @return Trabajo reencolado
+     */
+    MaterialImportJobDto restartJob(Long id);
+}
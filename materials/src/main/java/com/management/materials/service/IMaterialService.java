@@ -2,11 +2,18 @@ package com.management.materials.service;
 
 import com.management.materials.dto.request.MaterialRequestDto;
 import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.dto.response.BulkMaterialResultDto;
+import com.management.materials.dto.response.CursorPageDto;
 import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.dto.response.MaterialStatsDto;
+import com.management.materials.enums.MaterialStatsGrouping;
 import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.projection.MaterialVersionRow;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface para el servicio de gestión de materiales
@@ -20,6 +27,16 @@ public interface IMaterialService {
      */
     List<MaterialResponseDto> getAllMaterials();
 
+    /**
+     * Obtiene una página de materiales usando paginación por cursor
+     * ordenada por fecha de compra e ID descendentes
+     *
+     * @param cursor Cursor de la página anterior (null para la primera página)
+     * @param size Tamaño de página solicitado (null para el tamaño por defecto)
+     * @return Página de materiales con el cursor de la siguiente página
+     */
+    CursorPageDto<MaterialResponseDto> getMaterialsPage(String cursor, Integer size);
+
     /**
      * Obtiene un material por su ID
      *
@@ -28,6 +45,23 @@ public interface IMaterialService {
      */
     MaterialResponseDto getMaterialById(Long id);
 
+    /**
+     * Obtiene la versión y la fecha de la última modificación de un material sin cargarlo (validadores HTTP)
+     *
+     * @param id ID del material
+     * @return Versión y fecha de modificación, vacío si el material no existe
+     */
+    Optional<MaterialVersionRow> getMaterialVersion(Long id);
+
+    /**
+     * Obtiene la versión de la colección de materiales: cantidad total, última modificación y huella
+     * de los datos de referencia. Cambia con cada alta, modificación o eliminación y con cada cambio
+     * de nombres de ciudades o departamentos (validador HTTP de los listados).
+     *
+     * @return Versión opaca de la colección
+     */
+    String getMaterialsVersion();
+
     /**
      * Crea un nuevo material
      *
@@ -36,14 +70,24 @@ public interface IMaterialService {
      */
     MaterialResponseDto createMaterial(MaterialRequestDto materialRequest);
 
+    /**
+     * Crea materiales en lote validando cada fila de forma independiente
+     *
+     * @param materialRequests Datos de los materiales a crear
+     * @return Totales y resultado por fila (ID creado o errores de validación)
+     */
+    BulkMaterialResultDto createMaterials(List<MaterialRequestDto> materialRequests);
+
     /**
      * Actualiza un material existente
      *
      * @param id ID del material a actualizar
      * @param materialRequest Nuevos datos del material
-     * @return Material actualizado
+     * @param expectedVersion Versión que debe tener el material (If-Match); null para actualizar sin condición
+     * @return Material actualizado, con su nueva versión
+     * @throws com.management.materials.exception.PreconditionFailedException si la versión ya no es la vigente
      */
-    MaterialResponseDto updateMaterial(Long id, MaterialRequestDto materialRequest);
+    MaterialResponseDto updateMaterial(Long id, MaterialRequestDto materialRequest, Long expectedVersion);
 
     /**
      * Elimina un material
@@ -92,6 +136,27 @@ public interface IMaterialService {
      */
     List<MaterialResponseDto> searchMaterials(MaterialSearchDto searchDto);
 
+    /**
+     * Exporta los materiales que cumplen los filtros entregándolos uno a uno al consumidor,
+     * sin construir la lista completa en memoria
+     *
+     * @param searchDto Criterios de búsqueda (los mismos de searchMaterials)
+     * @param consumer Receptor de cada material exportado
+     * @return Cantidad de materiales exportados
+     */
+    long exportMaterials(MaterialSearchDto searchDto, Consumer<MaterialResponseDto> consumer);
+
+    /**
+     * Calcula estadísticas de cantidad y precio agrupadas en la base de datos
+     *
+     * @param searchDto Criterios de búsqueda (los mismos de searchMaterials)
+     * @param groupBy Agrupación de los resultados
+     * @param live true para consultar siempre la tabla de materiales; false para usar el resumen
+     *             precalculado cuando los filtros lo permiten (sin mínimo ni máximo de precio)
+     * @return Totales de los filtros y estadísticas por grupo
+     */
+    MaterialStatsDto getMaterialStats(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy, boolean live);
+
     /**
      * Busca materiales por nombre (búsqueda parcial)
      *
@@ -99,4 +164,14 @@ public interface IMaterialService {
      * @return Lista de materiales que contienen el nombre especificado
      */
     List<MaterialResponseDto> getMaterialsByName(String name);
+
+    /**
+     * Busca materiales por texto en nombre y descripción, ordenados por relevancia
+     *
+     * @param text Texto a buscar (mínimo 2 caracteres)
+     * @param page Número de página (desde 0)
+     * @param size Tamaño de página solicitado (null para el tamaño por defecto)
+     * @return Página de materiales; el cursor siguiente es el número de la página siguiente
+     */
+    CursorPageDto<MaterialResponseDto> searchMaterialsByText(String text, int page, Integer size);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.management.materials.service;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.repository.projection.MaterialStatsRow;
+
+import java.util.List;
+
+/**
+ * Interface para el servicio del resumen precalculado de materiales
+ * (departamento × tipo × estado × mes de compra)
+ */
+public interface IMaterialSummaryService {
+
+    /**
+     * Indica si las estadísticas solicitadas pueden calcularse desde el resumen: agrupación distinta
+     * de ciudad, filtros solo por departamento, tipos, estado y meses completos de compra, y el
+     * resumen ya reconciliado al menos una vez
+     */
+    boolean supports(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy);
+
+    /**
+     * Cantidad y suma del precio por grupo desde el resumen (sin mínimo ni máximo)
+     */
+    List<MaterialStatsRow> aggregate(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy);
+
+    /**
+     * Recalcula el resumen desde la tabla de materiales y corrige las diferencias
+     *
+     * @return Cantidad de filas del resumen corregidas
+     */
+    int reconcile();
+
+    /**
+     * Indica si el resumen ya se reconcilió al menos una vez; antes de eso sus cantidades pueden no
+     * reflejar los materiales existentes
+     */
+    boolean isReady();
+
+    /**
+     * Cantidad total de materiales según el resumen (cambia en la misma transacción que cada alta o eliminación)
+     */
+    long countMaterials();
+}
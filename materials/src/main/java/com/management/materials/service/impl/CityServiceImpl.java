@@ -1,5 +1,6 @@
 package com.management.materials.service.impl;
 
+import com.management.materials.cache.ReferenceDataCache;
 import com.management.materials.dto.response.CityResponseDto;
 import com.management.materials.dto.response.DepartmentResponseDto;
 import com.management.materials.entity.City;
@@ -24,19 +25,30 @@ public class CityServiceImpl implements ICityService {
     private static final Logger logger = LoggerFactory.getLogger(CityServiceImpl.class);
 
     private final CityRepository cityRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public CityServiceImpl(CityRepository cityRepository) {
+    public CityServiceImpl(CityRepository cityRepository, ReferenceDataCache referenceDataCache) {
         this.cityRepository = cityRepository;
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Override
+    public String getDataVersion() {
+        return referenceDataCache.getFingerprint();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CityResponseDto> getAllCities() {
-        logger.info("Obteniendo todas las ciudades");
+        logger.debug("Obteniendo todas las ciudades");
+
+        if (referenceDataCache.isLoaded()) {
+            return referenceDataCache.getCities();
+        }
 
         List<City> cities = cityRepository.findAllByOrderByNameAsc();
 
-        logger.info("Se encontraron {} ciudades", cities.size());
+        logger.debug("Se encontraron {} ciudades", cities.size());
         return cities.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -45,23 +57,32 @@ public class CityServiceImpl implements ICityService {
     @Override
     @Transactional(readOnly = true)
     public CityResponseDto getCityByCode(String code) {
-        logger.info("Buscando ciudad con código: {}", code);
+        logger.debug("Buscando ciudad con código: {}", code);
+
+        CityResponseDto cached = referenceDataCache.findCity(code).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
 
         City city = cityRepository.findById(code)
                 .orElseThrow(() -> new ResourceNotFoundException("Ciudad no encontrada con código: " + code));
 
-        logger.info("Ciudad encontrada: {}", city.getName());
+        logger.debug("Ciudad encontrada: {}", city.getName());
         return convertToResponseDto(city);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CityResponseDto> getCitiesByDepartmentCode(String departmentCode) {
-        logger.info("Buscando ciudades por código de departamento: {}", departmentCode);
+        logger.debug("Buscando ciudades por código de departamento: {}", departmentCode);
+
+        if (referenceDataCache.isLoaded()) {
+            return referenceDataCache.getCitiesByDepartmentCode(departmentCode);
+        }
 
         List<City> cities = cityRepository.findByDepartmentCode(departmentCode);
 
-        logger.info("Se encontraron {} ciudades en el departamento {}", cities.size(), departmentCode);
+        logger.debug("Se encontraron {} ciudades en el departamento {}", cities.size(), departmentCode);
         return cities.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -70,11 +91,11 @@ public class CityServiceImpl implements ICityService {
     @Override
     @Transactional(readOnly = true)
     public List<CityResponseDto> getCitiesByName(String name) {
-        logger.info("Buscando ciudades por nombre: {}", name);
+        logger.debug("Buscando ciudades por nombre: {}", name);
 
         List<City> cities = cityRepository.findByNameContainingIgnoreCase(name);
 
-        logger.info("Se encontraron {} ciudades que contienen '{}'", cities.size(), name);
+        logger.debug("Se encontraron {} ciudades que contienen '{}'", cities.size(), name);
         return cities.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
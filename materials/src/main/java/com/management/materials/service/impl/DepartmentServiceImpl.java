@@ -1,5 +1,6 @@
 package com.management.materials.service.impl;
 
+import com.management.materials.cache.ReferenceDataCache;
 import com.management.materials.dto.response.DepartmentResponseDto;
 import com.management.materials.entity.Department;
 import com.management.materials.exception.ResourceNotFoundException;
@@ -23,19 +24,30 @@ public class DepartmentServiceImpl implements IDepartmentService {
     private static final Logger logger = LoggerFactory.getLogger(DepartmentServiceImpl.class);
 
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, ReferenceDataCache referenceDataCache) {
         this.departmentRepository = departmentRepository;
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Override
+    public String getDataVersion() {
+        return referenceDataCache.getFingerprint();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DepartmentResponseDto> getAllDepartments() {
-        logger.info("Obteniendo todos los departamentos");
+        logger.debug("Obteniendo todos los departamentos");
+
+        if (referenceDataCache.isLoaded()) {
+            return referenceDataCache.getDepartments();
+        }
 
         List<Department> departments = departmentRepository.findAllByOrderByNameAsc();
 
-        logger.info("Se encontraron {} departamentos", departments.size());
+        logger.debug("Se encontraron {} departamentos", departments.size());
         return departments.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -44,23 +56,28 @@ public class DepartmentServiceImpl implements IDepartmentService {
     @Override
     @Transactional(readOnly = true)
     public DepartmentResponseDto getDepartmentByCode(String code) {
-        logger.info("Buscando departamento con código: {}", code);
+        logger.debug("Buscando departamento con código: {}", code);
+
+        DepartmentResponseDto cached = referenceDataCache.findDepartment(code).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
 
         Department department = departmentRepository.findById(code)
                 .orElseThrow(() -> new ResourceNotFoundException("Departamento no encontrado con código: " + code));
 
-        logger.info("Departamento encontrado: {}", department.getName());
+        logger.debug("Departamento encontrado: {}", department.getName());
         return convertToResponseDto(department);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DepartmentResponseDto> getDepartmentsByName(String name) {
-        logger.info("Buscando departamentos por nombre: {}", name);
+        logger.debug("Buscando departamentos por nombre: {}", name);
 
         List<Department> departments = departmentRepository.findByNameContainingIgnoreCase(name);
 
-        logger.info("Se encontraron {} departamentos que contienen '{}'", departments.size(), name);
+        logger.debug("Se encontraron {} departamentos que contienen '{}'", departments.size(), name);
         return departments.stream()
                 .map(this::convertToResponseDto)
                 .collect(Collectors.toList());
@@ -0,0 +1,249 @@
+package com.management.materials.service.impl;
+
+import com.management.materials.dto.request.MaterialRequestDto;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lector en streaming de materiales en formato CSV (separador coma, campos opcionalmente entre
+ * comillas dobles con "" como escape). Mantiene en memoria un solo registro a la vez.
+ * La primera línea es el encabezado; los nombres de columna no distinguen mayúsculas ni guiones bajos.
+ */
+class MaterialCsvReader implements Closeable {
+
+    static final List<String> REQUIRED_COLUMNS = List.of(
+            "name", "description", "type", "price", "purchaseDate", "status", "cityCode");
+    static final String SALE_DATE_COLUMN = "saleDate";
+
+    private static final int MAX_RECORD_LENGTH = 10_000;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+
+    /**
+     * Registro leído del archivo junto con la línea donde inicia
+     */
+    static class Record {
+        private final long lineNumber;
+        private final List<String> fields;
+
+        Record(long lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+
+        long getLineNumber() { return lineNumber; }
+    }
+
+    MaterialCsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lee y valida el encabezado
+     *
+     * @throws IllegalArgumentException si el archivo está vacío o faltan columnas obligatorias
+     */
+    void readHeader() throws IOException {
+        List<String> header = nextFields();
+        if (header == null) {
+            throw new IllegalArgumentException("El archivo CSV está vacío");
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i);
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1);
+            }
+            columns.put(normalize(column), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(normalize(column)))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Faltan columnas obligatorias en el encabezado: " + missing);
+        }
+    }
+
+    /**
+     * Lee el siguiente registro, omitiendo líneas vacías
+     *
+     * @return Registro leído o null al final del archivo
+     */
+    Record next() throws IOException {
+        while (true) {
+            long startLine = lineNumber + 1;
+            List<String> fields = nextFields();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            return new Record(startLine, fields);
+        }
+    }
+
+    /**
+     * Descarta registros ya procesados (reanudación desde un punto de control)
+     *
+     * @return Cantidad de registros descartados
+     */
+    long skip(long records) throws IOException {
+        long skipped = 0;
+        while (skipped < records && next() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Convierte un registro a MaterialRequestDto. Los campos vacíos quedan en null para que
+     * las validaciones del DTO reporten los obligatorios.
+     *
+     * @throws IllegalArgumentException si un valor no tiene el formato esperado
+     */
+    MaterialRequestDto toRequest(Record record) {
+        if (record.fields.size() < columns.size()) {
+            throw new IllegalArgumentException("Se esperaban " + columns.size() + " columnas y se encontraron "
+                    + record.fields.size());
+        }
+
+        MaterialRequestDto request = new MaterialRequestDto();
+        request.setName(value(record, "name"));
+        request.setDescription(value(record, "description"));
+        request.setType(parseEnum(MaterialType.class, value(record, "type"), "Tipo de material inválido"));
+        request.setPrice(parsePrice(value(record, "price")));
+        request.setPurchaseDate(parseDate(value(record, "purchaseDate"), "Fecha de compra inválida"));
+        request.setSaleDate(parseDate(value(record, SALE_DATE_COLUMN), "Fecha de venta inválida"));
+        request.setStatus(parseEnum(MaterialStatus.class, value(record, "status"), "Estado inválido"));
+        request.setCityCode(value(record, "cityCode"));
+        return request;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Lee los campos del siguiente registro; un campo entre comillas puede abarcar varias líneas
+     */
+    private List<String> nextFields() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int recordLength = 0;
+        int i = 0;
+
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Salto de línea dentro de un campo entre comillas
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException("Comillas sin cerrar al final del archivo (línea " + lineNumber + ")");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            if (++recordLength > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("Registro de más de " + MAX_RECORD_LENGTH
+                        + " caracteres en la línea " + lineNumber);
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String value(Record record, String column) {
+        Integer index = columns.get(normalize(column));
+        if (index == null || index >= record.fields.size()) {
+            return null;
+        }
+        String value = record.fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String column) {
+        return column.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String error) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(error + ": " + value);
+        }
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Precio inválido: " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value, String error) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(error + " (formato yyyy-MM-dd): " + value);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.management.materials.service.impl;
+
+import com.management.materials.dto.request.MaterialRequestDto;
+import com.management.materials.dto.response.BulkMaterialResultDto;
+import com.management.materials.dto.response.BulkMaterialRowResultDto;
+import com.management.materials.dto.response.MaterialImportErrorDto;
+import com.management.materials.dto.response.MaterialImportJobDto;
+import com.management.materials.entity.MaterialImportError;
+import com.management.materials.entity.MaterialImportJob;
+import com.management.materials.enums.ImportJobStatus;
+import com.management.materials.exception.BusinessException;
+import com.management.materials.exception.ResourceNotFoundException;
+import com.management.materials.repository.MaterialImportErrorRepository;
+import com.management.materials.repository.MaterialImportJobRepository;
+import com.management.materials.service.IMaterialImportService;
+import com.management.materials.service.IMaterialService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementación del servicio de importación de materiales desde archivos CSV.
+ * Cada trabajo se ejecuta en un executor propio, lee el archivo en streaming y confirma
+ * bloques de registros junto con el punto de control del trabajo en una misma transacción.
+ */
+@Service
+public class MaterialImportServiceImpl implements IMaterialImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialImportServiceImpl.class);
+
+    private static final String INTERRUPTED_MESSAGE =
+            "Importación interrumpida por reinicio de la aplicación; puede reanudarse desde el último punto de control";
+
+    private final MaterialImportJobRepository jobRepository;
+    private final MaterialImportErrorRepository errorRepository;
+    private final IMaterialService materialService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.materials.import.directory:${java.io.tmpdir}/materials-imports}")
+    private String importDirectory;
+
+    @Value("${app.materials.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.materials.import.concurrency:1}")
+    private int concurrency;
+
+    @Value("${app.materials.import.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.materials.import.max-stored-errors:1000}")
+    private int maxStoredErrors;
+
+    /**
+     * Executor exclusivo de importaciones. No se registra como bean para no reemplazar
+     * el executor de tareas que Spring Boot configura para MVC asíncrono y @Async.
+     */
+    private ThreadPoolTaskExecutor executor;
+
+    public MaterialImportServiceImpl(MaterialImportJobRepository jobRepository,
+                                     MaterialImportErrorRepository errorRepository,
+                                     IMaterialService materialService,
+                                     TransactionTemplate transactionTemplate) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.materialService = materialService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    void startExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("material-import-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Los trabajos pendientes o en ejecución al detenerse la aplicación quedan como fallidos
+     * para que puedan reanudarse explícitamente desde su punto de control
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int interrupted = jobRepository.failJobsInStatus(
+                List.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING), INTERRUPTED_MESSAGE);
+        if (interrupted > 0) {
+            logger.warn("Se marcaron {} importaciones interrumpidas como fallidas", interrupted);
+        }
+    }
+
+    @Override
+    public MaterialImportJobDto startImport(String fileName, InputStream content) throws IOException {
+        logger.info("Recibiendo archivo de importación de materiales: {}", fileName);
+
+        Path directory = Files.createDirectories(Paths.get(importDirectory));
+        Path target = Files.createTempFile(directory, "materials-", ".csv");
+        try (content) {
+            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        MaterialImportJob job = jobRepository.save(new MaterialImportJob(fileName, target.toString()));
+        submit(job.getId());
+
+        logger.info("Importación {} encolada ({} bytes)", job.getId(), Files.size(target));
+        return convertToDto(job, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MaterialImportJobDto getJob(Long id) {
+        MaterialImportJob job = jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Importación no encontrada con ID: " + id));
+
+        List<MaterialImportErrorDto> errors = errorRepository.findTop100ByJobIdOrderByLineNumberAsc(id).stream()
+                .map(error -> new MaterialImportErrorDto(error.getLineNumber(), error.getMessage()))
+                .toList();
+
+        return convertToDto(job, errors);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaterialImportJobDto> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc().stream()
+                .map(job -> convertToDto(job, null))
+                .toList();
+    }
+
+    @Override
+    public MaterialImportJobDto restartJob(Long id) {
+        logger.info("Reanudando importación {}", id);
+
+        MaterialImportJob job = jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Importación no encontrada con ID: " + id));
+
+        if (jobRepository.compareAndSetStatus(id, ImportJobStatus.FAILED, ImportJobStatus.PENDING) == 0) {
+            throw new BusinessException("Solo se pueden reanudar importaciones fallidas. Estado actual: " + job.getStatus());
+        }
+        submit(id);
+
+        return getJob(id);
+    }
+
+    /**
+     * Encola la ejecución de un trabajo
+     *
+     * @throws IllegalStateException si la cola de importaciones está llena
+     */
+    private void submit(Long jobId) {
+        try {
+            executor.execute(() -> runJob(jobId));
+        } catch (TaskRejectedException e) {
+            markFailed(jobId, "La cola de importaciones estaba llena; puede reanudarse más tarde");
+            throw new IllegalStateException("La cola de importaciones está llena, intente más tarde");
+        }
+    }
+
+    /**
+     * Ejecuta un trabajo desde su punto de control hasta el final del archivo
+     */
+    private void runJob(Long jobId) {
+        MaterialImportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setFailureMessage(null);
+        job.setFinishedAt(null);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        job = jobRepository.save(job);
+
+        long checkpoint = job.getProcessedRows();
+        Path file = Paths.get(job.getFilePath());
+        logger.info("Ejecutando importación {} desde el registro {}", jobId, checkpoint);
+
+        try (MaterialCsvReader reader = new MaterialCsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.readHeader();
+            if (reader.skip(checkpoint) < checkpoint) {
+                throw new IllegalStateException("El archivo tiene menos registros que el punto de control: " + checkpoint);
+            }
+
+            List<MaterialCsvReader.Record> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                long startNanos = System.nanoTime();
+                chunk.clear();
+
+                MaterialCsvReader.Record record;
+                while (chunk.size() < chunkSize && (record = reader.next()) != null) {
+                    chunk.add(record);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> importChunk(jobId, reader, chunk, startNanos));
+            }
+
+            completeJob(jobId);
+            Files.deleteIfExists(file);
+
+        } catch (Exception e) {
+            logger.error("Error en la importación {}", jobId, e);
+            markFailed(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Importa un bloque de registros y avanza el punto de control en la misma transacción
+     */
+    private void importChunk(Long jobId, MaterialCsvReader reader, List<MaterialCsvReader.Record> chunk,
+                             long startNanos) {
+        List<MaterialRequestDto> requests = new ArrayList<>(chunk.size());
+        List<Long> requestLines = new ArrayList<>(chunk.size());
+        List<MaterialImportError> errors = new ArrayList<>();
+
+        for (MaterialCsvReader.Record record : chunk) {
+            try {
+                requests.add(reader.toRequest(record));
+                requestLines.add(record.getLineNumber());
+            } catch (IllegalArgumentException e) {
+                errors.add(new MaterialImportError(jobId, record.getLineNumber(), e.getMessage()));
+            }
+        }
+
+        // Mismas validaciones, consulta de ciudades e inserción por lotes que la creación masiva
+        int imported = 0;
+        if (!requests.isEmpty()) {
+            BulkMaterialResultDto result = materialService.createMaterials(requests);
+            imported = result.getCreated();
+            for (BulkMaterialRowResultDto row : result.getResults()) {
+                if (BulkMaterialRowResultDto.FAILED.equals(row.getStatus())) {
+                    errors.add(new MaterialImportError(jobId, requestLines.get(row.getIndex()),
+                            String.join("; ", row.getErrors())));
+                }
+            }
+        }
+
+        // createMaterials limpia el contexto de persistencia, por eso el trabajo se lee al final
+        MaterialImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Importación no encontrada con ID: " + jobId));
+
+        long storable = maxStoredErrors - Math.min(job.getFailedRows(), maxStoredErrors);
+        if (storable > 0 && !errors.isEmpty()) {
+            errors.sort(Comparator.comparingLong(MaterialImportError::getLineNumber));
+            errorRepository.saveAll(errors.subList(0, (int) Math.min(storable, errors.size())));
+        }
+
+        job.setProcessedRows(job.getProcessedRows() + chunk.size());
+        job.setImportedRows(job.getImportedRows() + imported);
+        job.setFailedRows(job.getFailedRows() + errors.size());
+        job.setElapsedMillis(job.getElapsedMillis() + (System.nanoTime() - startNanos) / 1_000_000);
+        job.setLastCheckpointAt(LocalDateTime.now());
+
+        logger.debug("Importación {}: {} registros procesados", jobId, job.getProcessedRows());
+    }
+
+    private void completeJob(Long jobId) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImportJobStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            logger.info("Importación {} completada: {} importados, {} con errores",
+                    jobId, job.getImportedRows(), job.getFailedRows());
+        });
+    }
+
+    private void markFailed(Long jobId, String message) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setFailureMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+        });
+    }
+
+    /**
+     * Convierte un trabajo a MaterialImportJobDto
+     */
+    private MaterialImportJobDto convertToDto(MaterialImportJob job, List<MaterialImportErrorDto> errors) {
+        MaterialImportJobDto dto = new MaterialImportJobDto();
+        dto.setId(job.getId());
+        dto.setFileName(job.getFileName());
+        dto.setStatus(job.getStatus());
+        dto.setProcessedRows(job.getProcessedRows());
+        dto.setImportedRows(job.getImportedRows());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setRowsPerSecond(job.getElapsedMillis() > 0
+                ? Math.round(job.getProcessedRows() * 10_000.0 / job.getElapsedMillis()) / 10.0
+                : 0);
+        dto.setFailureMessage(job.getFailureMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setLastCheckpointAt(job.getLastCheckpointAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setErrors(errors);
+        return dto;
+    }
+}
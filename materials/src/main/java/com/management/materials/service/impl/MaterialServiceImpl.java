@@ -1,25 +1,60 @@
 package com.management.materials.service.impl;
 
+import com.management.materials.cache.ReferenceDataCache;
+import com.management.materials.dto.request.MaterialCursor;
 import com.management.materials.dto.request.MaterialRequestDto;
 import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.dto.response.BulkMaterialResultDto;
+import com.management.materials.dto.response.BulkMaterialRowResultDto;
 import com.management.materials.dto.response.CityResponseDto;
+import com.management.materials.dto.response.CursorPageDto;
 import com.management.materials.dto.response.DepartmentResponseDto;
 import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.dto.response.MaterialStatsDto;
+import com.management.materials.dto.response.MaterialStatsGroupDto;
 import com.management.materials.entity.City;
 import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.enums.MaterialStatus;
 import com.management.materials.enums.MaterialType;
+import com.management.materials.event.MaterialChangedEvent;
+import com.management.materials.exception.BusinessException;
+import com.management.materials.exception.PreconditionFailedException;
 import com.management.materials.exception.ResourceNotFoundException;
 import com.management.materials.repository.CityRepository;
 import com.management.materials.repository.MaterialRepository;
+import com.management.materials.repository.projection.MaterialRow;
+import com.management.materials.repository.projection.MaterialStatsRow;
+import com.management.materials.repository.projection.MaterialVersionRow;
 import com.management.materials.service.IMaterialService;
+import com.management.materials.service.IMaterialSummaryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de gestión de materiales
@@ -30,74 +65,224 @@ public class MaterialServiceImpl implements IMaterialService {
 
     private static final Logger logger = LoggerFactory.getLogger(MaterialServiceImpl.class);
 
+    private static final int MIN_TEXT_SEARCH_LENGTH = 2;
+
     private final MaterialRepository materialRepository;
     private final CityRepository cityRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IMaterialSummaryService summaryService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.materials.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.materials.pagination.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${app.materials.bulk.max-rows:50000}")
+    private int maxBulkRows;
 
-    public MaterialServiceImpl(MaterialRepository materialRepository, CityRepository cityRepository) {
+    public MaterialServiceImpl(MaterialRepository materialRepository, CityRepository cityRepository,
+                               ReferenceDataCache referenceDataCache, Validator validator,
+                               ApplicationEventPublisher eventPublisher, IMaterialSummaryService summaryService) {
         this.materialRepository = materialRepository;
         this.cityRepository = cityRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.summaryService = summaryService;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getAllMaterials() {
-        logger.info("Obteniendo todos los materiales");
+        logger.debug("Obteniendo todos los materiales");
 
-        List<Material> materials = materialRepository.findAllByOrderByPurchaseDateDesc();
+        List<MaterialRow> materials = materialRepository.findAllRowsOrderByPurchaseDateDesc();
 
-        logger.info("Se encontraron {} materiales", materials.size());
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales", materials.size());
+        return convertRowsToResponseDtos(materials);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<MaterialResponseDto> getMaterialsPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        logger.debug("Obteniendo página de materiales: cursor={}, tamaño={}", cursor, pageSize);
+
+        // Se solicita una fila extra para saber si existe una página siguiente
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<MaterialRow> materials;
+        if (cursor == null || cursor.isBlank()) {
+            materials = materialRepository.findFirstRowPage(limit);
+        } else {
+            MaterialCursor after = MaterialCursor.decode(cursor);
+            materials = materialRepository.findRowPageAfter(after.getPurchaseDate(), after.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (materials.size() > pageSize) {
+            materials = materials.subList(0, pageSize);
+            MaterialRow last = materials.get(pageSize - 1);
+            nextCursor = new MaterialCursor(last.getPurchaseDate(), last.getId()).encode();
+        }
+
+        logger.debug("Se obtuvieron {} materiales en la página", materials.size());
+        return new CursorPageDto<>(convertRowsToResponseDtos(materials), nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public MaterialResponseDto getMaterialById(Long id) {
-        logger.info("Buscando material con ID: {}", id);
+        logger.debug("Buscando material con ID: {}", id);
 
         Material material = materialRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Material no encontrado con ID: " + id));
 
-        logger.info("Material encontrado: {}", material.getName());
+        logger.debug("Material encontrado: {}", material.getName());
         return convertToResponseDto(material);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MaterialVersionRow> getMaterialVersion(Long id) {
+        return materialRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getMaterialsVersion() {
+        // La cantidad detecta eliminaciones; la fecha máxima, altas y modificaciones; la huella de los
+        // datos de referencia, cambios de nombres de ciudades y departamentos incluidos en cada material.
+        // Hasta la primera reconciliación el resumen puede no contar todos los materiales: se cuenta la tabla
+        long count = summaryService.isReady() ? summaryService.countMaterials() : materialRepository.count();
+        LocalDateTime lastModified = materialRepository.findMaxUpdatedAt();
+        String referenceData = referenceDataCache.getFingerprint();
+        return count + "-" + (lastModified != null ? lastModified.toString() : "0")
+                + "-" + (referenceData != null ? referenceData : "0");
+    }
+
     @Override
     public MaterialResponseDto createMaterial(MaterialRequestDto materialRequest) {
-        logger.info("Creando nuevo material: {}", materialRequest.getName());
+        logger.debug("Creando nuevo material: {}", materialRequest.getName());
 
         // Validar que la ciudad existe
-        City city = cityRepository.findById(materialRequest.getCityCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Ciudad no encontrada con código: " + materialRequest.getCityCode()));
+        City city = resolveCity(materialRequest.getCityCode());
 
-        // Crear entidad Material
-        Material material = new Material();
-        material.setName(materialRequest.getName());
-        material.setDescription(materialRequest.getDescription());
-        material.setType(materialRequest.getType());
-        material.setPrice(materialRequest.getPrice());
-        material.setPurchaseDate(materialRequest.getPurchaseDate());
-        material.setSaleDate(materialRequest.getSaleDate());
-        material.setStatus(materialRequest.getStatus());
-        material.setCity(city);
+        // Validar antes de guardar: la excepción de @PrePersist llegaría traducida por el repositorio
+        Material material = newMaterial(materialRequest, city);
+        material.validateDates();
 
         Material savedMaterial = materialRepository.save(material);
+        eventPublisher.publishEvent(MaterialChangedEvent.created(snapshotOf(savedMaterial)));
 
         logger.info("Material creado exitosamente con ID: {}", savedMaterial.getId());
         return convertToResponseDto(savedMaterial);
     }
 
     @Override
-    public MaterialResponseDto updateMaterial(Long id, MaterialRequestDto materialRequest) {
-        logger.info("Actualizando material con ID: {}", id);
+    public BulkMaterialResultDto createMaterials(List<MaterialRequestDto> materialRequests) {
+        if (materialRequests == null || materialRequests.isEmpty()) {
+            throw new BusinessException("Debe enviar al menos un material");
+        }
+        if (materialRequests.size() > maxBulkRows) {
+            throw new BusinessException("Se permiten máximo " + maxBulkRows + " materiales por solicitud");
+        }
+
+        logger.debug("Creando {} materiales en lote", materialRequests.size());
+
+        BulkMaterialRowResultDto[] results = new BulkMaterialRowResultDto[materialRequests.size()];
+
+        // Validar cada fila de forma independiente
+        Set<String> cityCodes = new HashSet<>();
+        for (int i = 0; i < materialRequests.size(); i++) {
+            MaterialRequestDto request = materialRequests.get(i);
+            if (request == null) {
+                results[i] = BulkMaterialRowResultDto.failed(i, List.of("El material es obligatorio"));
+                continue;
+            }
+
+            List<String> errors = validator.validate(request).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            if (errors.isEmpty()) {
+                cityCodes.add(request.getCityCode());
+            } else {
+                results[i] = BulkMaterialRowResultDto.failed(i, errors);
+            }
+        }
+
+        // Validar todas las ciudades en una sola consulta
+        Map<String, City> cities = resolveCities(cityCodes);
+
+        // Departamentos resueltos antes de limpiar el contexto: las ciudades quedan desasociadas en cada lote
+        Map<String, String> departmentCodes = new HashMap<>();
+        cities.keySet().forEach(cityCode -> departmentCodes.put(cityCode, departmentCodeOf(cityCode)));
+
+        // Insertar por lotes JDBC; se limpia el contexto de persistencia en cada lote
+        int created = 0;
+        for (int i = 0; i < materialRequests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+
+            MaterialRequestDto request = materialRequests.get(i);
+            City city = cities.get(request.getCityCode());
+            if (city == null) {
+                results[i] = BulkMaterialRowResultDto.failed(i,
+                        List.of("Ciudad no encontrada con código: " + request.getCityCode()));
+                continue;
+            }
+
+            Material material = newMaterial(request, city);
+            try {
+                material.validateDates();
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkMaterialRowResultDto.failed(i, List.of(e.getMessage()));
+                continue;
+            }
+
+            entityManager.persist(material);
+            eventPublisher.publishEvent(MaterialChangedEvent.created(
+                    MaterialChangedEvent.MaterialSnapshot.of(material, departmentCodes.get(city.getCode()))));
+            results[i] = BulkMaterialRowResultDto.created(i, material.getId());
+
+            if (++created % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int failed = materialRequests.size() - created;
+        logger.info("Creación en lote finalizada: {} creados, {} con errores", created, failed);
+        return new BulkMaterialResultDto(materialRequests.size(), created, failed, Arrays.asList(results));
+    }
+
+    @Override
+    public MaterialResponseDto updateMaterial(Long id, MaterialRequestDto materialRequest, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return updateMaterialIfVersion(id, materialRequest, expectedVersion);
+        }
+
+        logger.debug("Actualizando material con ID: {}", id);
 
         Material existingMaterial = materialRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Material no encontrado con ID: " + id));
 
+        MaterialChangedEvent.MaterialSnapshot before = snapshotOf(existingMaterial);
+
         // Validar que la ciudad existe
-        City city = cityRepository.findById(materialRequest.getCityCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Ciudad no encontrada con código: " + materialRequest.getCityCode()));
+        City city = resolveCity(materialRequest.getCityCode());
 
         // Actualizar campos
         existingMaterial.setName(materialRequest.getName());
@@ -108,113 +293,431 @@ public class MaterialServiceImpl implements IMaterialService {
         existingMaterial.setSaleDate(materialRequest.getSaleDate());
         existingMaterial.setStatus(materialRequest.getStatus());
         existingMaterial.setCity(city);
+        existingMaterial.validateDates();
 
-        Material updatedMaterial = materialRepository.save(existingMaterial);
+        // Forzar el flush para que el evento refleje la fecha de modificación asignada en @PreUpdate
+        Material updatedMaterial = materialRepository.saveAndFlush(existingMaterial);
+        eventPublisher.publishEvent(MaterialChangedEvent.updated(before, snapshotOf(updatedMaterial)));
 
         logger.info("Material actualizado exitosamente: {}", updatedMaterial.getName());
         return convertToResponseDto(updatedMaterial);
     }
 
+    /**
+     * Actualización condicional (If-Match): una sola sentencia compara la versión, aplica los cambios
+     * y retorna el estado previo, sin cargar la entidad. La respuesta se arma con los datos enviados.
+     */
+    private MaterialResponseDto updateMaterialIfVersion(Long id, MaterialRequestDto materialRequest,
+                                                        long expectedVersion) {
+        logger.debug("Actualizando material con ID: {} (versión esperada {})", id, expectedVersion);
+
+        // Validar que la ciudad existe
+        City city = resolveCity(materialRequest.getCityCode());
+
+        // La sentencia no pasa por @PreUpdate: validar y asignar la fecha de modificación aquí
+        Material values = newMaterial(materialRequest, city);
+        values.validateDates();
+        values.setUpdatedAt(LocalDateTime.now());
+
+        MaterialRow previous = materialRepository.updateIfVersion(id, expectedVersion, values)
+                .orElseThrow(() -> materialRepository.existsById(id)
+                        ? new PreconditionFailedException("El material con ID " + id
+                                + " fue modificado por otra solicitud; la versión " + expectedVersion + " ya no es la vigente")
+                        : new ResourceNotFoundException("Material no encontrado con ID: " + id));
+
+        values.setId(id);
+        values.setVersion(expectedVersion + 1);
+        eventPublisher.publishEvent(MaterialChangedEvent.updated(
+                MaterialChangedEvent.MaterialSnapshot.of(materialFromRow(previous), departmentCodeOf(previous.getCityCode())),
+                MaterialChangedEvent.MaterialSnapshot.of(values, departmentCodeOf(city.getCode()))));
+
+        logger.info("Material actualizado exitosamente: {}", values.getName());
+        return convertToResponseDto(values);
+    }
+
     @Override
     public void deleteMaterial(Long id) {
-        logger.info("Eliminando material con ID: {}", id);
+        logger.debug("Eliminando material con ID: {}", id);
 
-        if (!materialRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Material no encontrado con ID: " + id);
-        }
+        Material material = materialRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Material no encontrado con ID: " + id));
 
-        materialRepository.deleteById(id);
+        materialRepository.delete(material);
+        eventPublisher.publishEvent(MaterialChangedEvent.deleted(snapshotOf(material)));
         logger.info("Material eliminado exitosamente");
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getMaterialsByType(MaterialType type) {
-        logger.info("Buscando materiales por tipo: {}", type);
+        logger.debug("Buscando materiales por tipo: {}", type);
 
-        List<Material> materials = materialRepository.findByType(type);
+        List<MaterialRow> materials = materialRepository.findRowsByType(type);
 
-        logger.info("Se encontraron {} materiales del tipo {}", materials.size(), type);
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales del tipo {}", materials.size(), type);
+        return convertRowsToResponseDtos(materials);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getMaterialsByPurchaseDate(LocalDate purchaseDate) {
-        logger.info("Buscando materiales por fecha de compra: {}", purchaseDate);
+        logger.debug("Buscando materiales por fecha de compra: {}", purchaseDate);
 
-        List<Material> materials = materialRepository.findByPurchaseDate(purchaseDate);
+        List<MaterialRow> materials = materialRepository.findRowsByPurchaseDate(purchaseDate);
 
-        logger.info("Se encontraron {} materiales comprados en {}", materials.size(), purchaseDate);
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales comprados en {}", materials.size(), purchaseDate);
+        return convertRowsToResponseDtos(materials);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getMaterialsByCityCode(String cityCode) {
-        logger.info("Buscando materiales por código de ciudad: {}", cityCode);
+        logger.debug("Buscando materiales por código de ciudad: {}", cityCode);
 
-        List<Material> materials = materialRepository.findByCityCode(cityCode);
+        List<MaterialRow> materials = materialRepository.findRowsByCityCode(cityCode);
 
-        logger.info("Se encontraron {} materiales en la ciudad {}", materials.size(), cityCode);
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales en la ciudad {}", materials.size(), cityCode);
+        return convertRowsToResponseDtos(materials);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getMaterialsByDepartmentCode(String departmentCode) {
-        logger.info("Buscando materiales por código de departamento: {}", departmentCode);
+        logger.debug("Buscando materiales por código de departamento: {}", departmentCode);
 
-        List<Material> materials = materialRepository.findByDepartmentCode(departmentCode);
+        List<MaterialRow> materials = materialRepository.findRowsByDepartmentCode(departmentCode);
 
-        logger.info("Se encontraron {} materiales en el departamento {}", materials.size(), departmentCode);
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales en el departamento {}", materials.size(), departmentCode);
+        return convertRowsToResponseDtos(materials);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> searchMaterials(MaterialSearchDto searchDto) {
-        logger.info("Buscando materiales con filtros: tipo={}, fecha={}, ciudad={}, departamento={}",
-                searchDto.getType(), searchDto.getPurchaseDate(), searchDto.getCityCode(), searchDto.getDepartmentCode());
-
-        List<Material> materials = materialRepository.findByFilters(
-                searchDto.getType(),
-                searchDto.getPurchaseDate(),
-                searchDto.getCityCode(),
-                searchDto.getDepartmentCode()
-        );
+        logger.debug("Buscando materiales con filtros: {}", searchDto);
+        searchDto.validateRanges();
+
+        List<MaterialRow> materials = materialRepository.searchRows(searchDto);
+
+        logger.debug("Se encontraron {} materiales con los filtros aplicados", materials.size());
+        return convertRowsToResponseDtos(materials);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMaterials(MaterialSearchDto searchDto, Consumer<MaterialResponseDto> consumer) {
+        logger.debug("Exportando materiales con filtros: {}", searchDto);
+        searchDto.validateRanges();
+
+        // Solo se retienen las ciudades ya vistas; cada fila se descarta después de entregarla
+        Map<String, CityResponseDto> cities = new HashMap<>();
+        long count = 0;
 
-        logger.info("Se encontraron {} materiales con los filtros aplicados", materials.size());
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        try (Stream<MaterialRow> rows = materialRepository.streamRows(searchDto)) {
+
+            Iterator<MaterialRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(convertRowToResponseDto(iterator.next(), cities));
+                count++;
+            }
+        }
+
+        logger.debug("Se exportaron {} materiales", count);
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MaterialStatsDto getMaterialStats(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy, boolean live) {
+        logger.debug("Calculando estadísticas de materiales por {} con filtros: {}", groupBy, searchDto);
+        searchDto.validateRanges();
+
+        // El resumen responde en O(grupos); la consulta directa recorre las filas que cumplen los filtros
+        MaterialStatsDto.Source source = !live && summaryService.supports(searchDto, groupBy)
+                ? MaterialStatsDto.Source.SUMMARY
+                : MaterialStatsDto.Source.LIVE;
+        List<MaterialStatsRow> rows = source == MaterialStatsDto.Source.SUMMARY
+                ? summaryService.aggregate(searchDto, groupBy)
+                : materialRepository.aggregate(searchDto, groupBy);
+
+        // Los totales se derivan de los grupos, sin una segunda consulta
+        long count = 0;
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+        List<MaterialStatsGroupDto> groups = new ArrayList<>(rows.size());
+        for (MaterialStatsRow row : rows) {
+            groups.add(toStatsGroupDto(row.getKey(), statsLabel(groupBy, row.getKey()), row.getCount(),
+                    row.getTotalPrice(), row.getMinPrice(), row.getMaxPrice()));
+            count += row.getCount();
+            totalPrice = totalPrice.add(row.getTotalPrice());
+            if (row.getMinPrice() != null && (minPrice == null || row.getMinPrice().compareTo(minPrice) < 0)) {
+                minPrice = row.getMinPrice();
+            }
+            if (row.getMaxPrice() != null && (maxPrice == null || row.getMaxPrice().compareTo(maxPrice) > 0)) {
+                maxPrice = row.getMaxPrice();
+            }
+        }
+
+        MaterialStatsGroupDto total = toStatsGroupDto(null, "Total", count, totalPrice, minPrice, maxPrice);
+        logger.debug("Estadísticas calculadas desde {}: {} grupos, {} materiales", source, groups.size(), count);
+        return new MaterialStatsDto(groupBy, source, total, groups);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MaterialResponseDto> getMaterialsByName(String name) {
-        logger.info("Buscando materiales por nombre: {}", name);
+        logger.debug("Buscando materiales por nombre: {}", name);
 
-        List<Material> materials = materialRepository.findByNameContainingIgnoreCase(name);
+        List<MaterialRow> materials = materialRepository.findRowsByNameContaining(name);
 
-        logger.info("Se encontraron {} materiales que contienen '{}'", materials.size(), name);
-        return materials.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        logger.debug("Se encontraron {} materiales que contienen '{}'", materials.size(), name);
+        return convertRowsToResponseDtos(materials);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<MaterialResponseDto> searchMaterialsByText(String text, int page, Integer size) {
+        String query = text == null ? "" : text.trim();
+        if (query.length() < MIN_TEXT_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("El texto de búsqueda debe tener al menos "
+                    + MIN_TEXT_SEARCH_LENGTH + " caracteres");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("El número de página no puede ser negativo");
+        }
+
+        int pageSize = resolvePageSize(size);
+        // El desplazamiento se calcula en long: page * pageSize puede desbordar un int
+        long offset = (long) page * pageSize;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("El número de página excede el máximo permitido para el tamaño "
+                    + pageSize);
+        }
+        logger.debug("Buscando materiales por texto: '{}', página={}, tamaño={}", query, page, pageSize);
+
+        // Se solicita un ID extra para saber si existe una página siguiente
+        List<Long> ids = materialRepository.searchIdsByText(query, (int) offset, pageSize + 1);
+
+        String nextCursor = null;
+        if (ids.size() > pageSize) {
+            ids = ids.subList(0, pageSize);
+            nextCursor = String.valueOf(page + 1);
+        }
+
+        // Las filas se cargan por ID y se reordenan según la relevancia
+        Map<Long, MaterialRow> rowsById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            materialRepository.findRowsByIdIn(ids).forEach(row -> rowsById.put(row.getId(), row));
+        }
+        List<MaterialRow> rows = ids.stream()
+                .map(rowsById::get)
+                .filter(row -> row != null)
+                .toList();
+
+        logger.debug("Se encontraron {} materiales para '{}'", rows.size(), query);
+        return new CursorPageDto<>(convertRowsToResponseDtos(rows), nextCursor);
+    }
+
+    /**
+     * Obtiene la ciudad a asociar a un material. Si la ciudad está en la caché de datos
+     * de referencia se usa una referencia perezosa sin consultar la base de datos.
+     */
+    private City resolveCity(String cityCode) {
+        if (referenceDataCache.findCity(cityCode).isPresent()) {
+            return cityRepository.getReferenceById(cityCode);
+        }
+        return cityRepository.findById(cityCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Ciudad no encontrada con código: " + cityCode));
+    }
+
+    /**
+     * Obtiene las ciudades por código: las conocidas por la caché de referencia como referencias
+     * y el resto con una sola consulta. Los códigos inexistentes no se incluyen en el resultado.
+     */
+    private Map<String, City> resolveCities(Set<String> cityCodes) {
+        Map<String, City> cities = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+
+        for (String cityCode : cityCodes) {
+            if (referenceDataCache.findCity(cityCode).isPresent()) {
+                cities.put(cityCode, cityRepository.getReferenceById(cityCode));
+            } else {
+                uncached.add(cityCode);
+            }
+        }
+
+        if (!uncached.isEmpty()) {
+            cityRepository.findAllById(uncached).forEach(city -> cities.put(city.getCode(), city));
+        }
+        return cities;
+    }
+
+    /**
+     * Instantánea de un material para los eventos, con el departamento desde la caché de referencia
+     */
+    private MaterialChangedEvent.MaterialSnapshot snapshotOf(Material material) {
+        return MaterialChangedEvent.MaterialSnapshot.of(material, departmentCodeOf(material.getCity().getCode()));
+    }
+
+    /**
+     * Código del departamento de una ciudad, desde la caché de referencia si está disponible
+     */
+    private String departmentCodeOf(String cityCode) {
+        return referenceDataCache.findCity(cityCode)
+                .map(city -> city.getDepartment().getCode())
+                .orElseGet(() -> cityRepository.getReferenceById(cityCode).getDepartment().getCode());
+    }
+
+    /**
+     * Material no administrado con los datos de una fila (para las instantáneas de los eventos)
+     */
+    private Material materialFromRow(MaterialRow row) {
+        Material material = new Material();
+        material.setId(row.getId());
+        material.setName(row.getName());
+        material.setDescription(row.getDescription());
+        material.setType(row.getType());
+        material.setPrice(row.getPrice());
+        material.setPurchaseDate(row.getPurchaseDate());
+        material.setSaleDate(row.getSaleDate());
+        material.setStatus(row.getStatus());
+        material.setCity(cityRepository.getReferenceById(row.getCityCode()));
+        return material;
+    }
+
+    /**
+     * Crea una entidad Material a partir del request
+     */
+    private Material newMaterial(MaterialRequestDto materialRequest, City city) {
+        Material material = new Material();
+        material.setName(materialRequest.getName());
+        material.setDescription(materialRequest.getDescription());
+        material.setType(materialRequest.getType());
+        material.setPrice(materialRequest.getPrice());
+        material.setPurchaseDate(materialRequest.getPurchaseDate());
+        material.setSaleDate(materialRequest.getSaleDate());
+        material.setStatus(materialRequest.getStatus());
+        material.setCity(city);
+        return material;
+    }
+
+    /**
+     * Acota el tamaño de página solicitado a los límites configurados
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Convierte filas proyectadas a MaterialResponseDto. Las ciudades se repiten
+     * entre filas, por lo que se comparte una única instancia de CityResponseDto por código.
+     * Las filas sin datos de ciudad (búsqueda dinámica) la toman de la caché de referencia.
+     * Visible en el paquete para los benchmarks JMH.
+     */
+    List<MaterialResponseDto> convertRowsToResponseDtos(List<MaterialRow> rows) {
+        Map<String, CityResponseDto> cities = preloadCities(rows);
+        List<MaterialResponseDto> result = new ArrayList<>(rows.size());
+
+        for (MaterialRow row : rows) {
+            result.add(convertRowToResponseDto(row, cities));
+        }
+
+        return result;
+    }
+
+    /**
+     * Convierte una fila proyectada reutilizando el CityResponseDto de las ciudades ya vistas
+     */
+    private MaterialResponseDto convertRowToResponseDto(MaterialRow row, Map<String, CityResponseDto> cities) {
+        CityResponseDto cityDto = cities.computeIfAbsent(row.getCityCode(), code -> row.getCityName() != null
+                ? new CityResponseDto(code, row.getCityName(),
+                        new DepartmentResponseDto(row.getDepartmentCode(), row.getDepartmentName()))
+                : findCityDto(code));
+
+        MaterialResponseDto dto = new MaterialResponseDto(
+                row.getId(),
+                row.getName(),
+                row.getDescription(),
+                row.getType(),
+                row.getPrice(),
+                row.getPurchaseDate(),
+                row.getSaleDate(),
+                row.getStatus(),
+                cityDto
+        );
+        dto.setVersion(row.getVersion());
+        return dto;
     }
 
     /**
-     * Convierte una entidad Material a MaterialResponseDto
+     * Resuelve en bloque las ciudades de las filas que no traen sus datos:
+     * primero desde la caché de referencia y las restantes con una sola consulta
      */
-    private MaterialResponseDto convertToResponseDto(Material material) {
+    private Map<String, CityResponseDto> preloadCities(List<MaterialRow> rows) {
+        Map<String, CityResponseDto> cities = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+
+        for (MaterialRow row : rows) {
+            if (row.getCityName() == null && !cities.containsKey(row.getCityCode())) {
+                referenceDataCache.findCity(row.getCityCode())
+                        .ifPresentOrElse(city -> cities.put(row.getCityCode(), city), () -> missing.add(row.getCityCode()));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            cityRepository.findByCodeIn(missing).forEach(city -> cities.put(city.getCode(), convertCityToDto(city)));
+        }
+        return cities;
+    }
+
+    /**
+     * Obtiene una ciudad desde la caché de referencia o, si no está, desde la base de datos
+     */
+    private CityResponseDto findCityDto(String cityCode) {
+        return referenceDataCache.findCity(cityCode)
+                .orElseGet(() -> cityRepository.findById(cityCode)
+                        .map(this::convertCityToDto)
+                        .orElseThrow(() -> new ResourceNotFoundException("Ciudad no encontrada con código: " + cityCode)));
+    }
+
+    private static MaterialStatsGroupDto toStatsGroupDto(String key, String label, long count, BigDecimal totalPrice,
+                                                         BigDecimal minPrice, BigDecimal maxPrice) {
+        BigDecimal averagePrice = count > 0
+                ? totalPrice.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : null;
+        return new MaterialStatsGroupDto(key, label, count, totalPrice, averagePrice, minPrice, maxPrice);
+    }
+
+    /**
+     * Nombre legible del grupo; ciudades y departamentos se resuelven desde la caché de referencia
+     */
+    private String statsLabel(MaterialStatsGrouping groupBy, String key) {
+        return switch (groupBy) {
+            case TYPE -> MaterialType.valueOf(key).getDisplayName();
+            case STATUS -> MaterialStatus.valueOf(key).getDisplayName();
+            case CITY -> referenceDataCache.findCity(key).map(CityResponseDto::getName).orElse(key);
+            case DEPARTMENT -> referenceDataCache.findDepartment(key).map(DepartmentResponseDto::getName).orElse(key);
+            case PURCHASE_MONTH -> key;
+        };
+    }
+
+    private CityResponseDto convertCityToDto(City city) {
+        return new CityResponseDto(city.getCode(), city.getName(),
+                new DepartmentResponseDto(city.getDepartment().getCode(), city.getDepartment().getName()));
+    }
+
+    /**
+     * Convierte una entidad Material a MaterialResponseDto.
+     * Visible en el paquete para los benchmarks JMH.
+     */
+    MaterialResponseDto convertToResponseDto(Material material) {
         MaterialResponseDto dto = new MaterialResponseDto();
         dto.setId(material.getId());
         dto.setName(material.getName());
@@ -224,18 +727,22 @@ public class MaterialServiceImpl implements IMaterialService {
         dto.setPurchaseDate(material.getPurchaseDate());
         dto.setSaleDate(material.getSaleDate());
         dto.setStatus(material.getStatus());
+        dto.setVersion(material.getVersion());
 
-        // Convertir ciudad
-        CityResponseDto cityDto = new CityResponseDto();
-        cityDto.setCode(material.getCity().getCode());
-        cityDto.setName(material.getCity().getName());
+        // Convertir ciudad (desde la caché de referencia para no inicializar el proxy)
+        CityResponseDto cityDto = referenceDataCache.findCity(material.getCity().getCode()).orElse(null);
+        if (cityDto == null) {
+            cityDto = new CityResponseDto();
+            cityDto.setCode(material.getCity().getCode());
+            cityDto.setName(material.getCity().getName());
 
-        // Convertir departamento
-        DepartmentResponseDto departmentDto = new DepartmentResponseDto();
-        departmentDto.setCode(material.getCity().getDepartment().getCode());
-        departmentDto.setName(material.getCity().getDepartment().getName());
+            // Convertir departamento
+            DepartmentResponseDto departmentDto = new DepartmentResponseDto();
+            departmentDto.setCode(material.getCity().getDepartment().getCode());
+            departmentDto.setName(material.getCity().getDepartment().getName());
 
-        cityDto.setDepartment(departmentDto);
+            cityDto.setDepartment(departmentDto);
+        }
         dto.setCity(cityDto);
 
         return dto;
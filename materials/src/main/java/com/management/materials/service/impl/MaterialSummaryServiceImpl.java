@@ -0,0 +1,223 @@
+package com.management.materials.service.impl;
+
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.MaterialSummary;
+import com.management.materials.entity.MaterialSummaryId;
+import com.management.materials.enums.MaterialStatsGrouping;
+import com.management.materials.event.MaterialChangedEvent;
+import com.management.materials.repository.MaterialSummaryRepository;
+import com.management.materials.repository.projection.MaterialStatsRow;
+import com.management.materials.service.IMaterialSummaryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementación del servicio del resumen de materiales.
+ * Los cambios de cada transacción se acumulan por llave del resumen y se aplican con upserts
+ * justo antes del commit, en la misma transacción que el cambio de los materiales.
+ */
+@Service
+public class MaterialSummaryServiceImpl implements IMaterialSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaterialSummaryServiceImpl.class);
+
+    private final MaterialSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean reconciled;
+
+    public MaterialSummaryServiceImpl(MaterialSummaryRepository summaryRepository,
+                                      TransactionTemplate transactionTemplate) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Reconcilia el resumen al terminar el arranque (incluye los datos cargados sin pasar por el servicio)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            logger.error("No fue posible reconciliar el resumen de materiales: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconciliación periódica para reparar diferencias (cambios directos en la base de datos)
+     */
+    @Scheduled(initialDelayString = "${app.materials.summary.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${app.materials.summary.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            logger.error("Error al reconciliar el resumen de materiales: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Acumula el cambio en la transacción en curso; se aplica en beforeCommit
+     */
+    @EventListener
+    public void onMaterialChanged(MaterialChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            logger.warn("Cambio de material fuera de una transacción; lo corregirá la reconciliación: {}", event);
+            return;
+        }
+
+        PendingDeltas deltas = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            deltas = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(deltas);
+        }
+        deltas.add(event.getBefore(), -1);
+        deltas.add(event.getAfter(), 1);
+    }
+
+    @Override
+    public boolean supports(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy) {
+        return reconciled
+                && groupBy != MaterialStatsGrouping.CITY
+                && (searchDto.getCityCode() == null || searchDto.getCityCode().isBlank())
+                && searchDto.getPurchaseDate() == null
+                && searchDto.getMinPrice() == null
+                && searchDto.getMaxPrice() == null
+                && (searchDto.getPurchaseDateFrom() == null || searchDto.getPurchaseDateFrom().getDayOfMonth() == 1)
+                && (searchDto.getPurchaseDateTo() == null
+                    || searchDto.getPurchaseDateTo().getDayOfMonth() == searchDto.getPurchaseDateTo().lengthOfMonth());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaterialStatsRow> aggregate(MaterialSearchDto searchDto, MaterialStatsGrouping groupBy) {
+        return summaryRepository.aggregate(searchDto, groupBy);
+    }
+
+    @Override
+    public boolean isReady() {
+        return reconciled;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMaterials() {
+        return summaryRepository.sumMaterialCount();
+    }
+
+    @Override
+    public int reconcile() {
+        long startNanos = System.nanoTime();
+
+        Integer corrected = transactionTemplate.execute(status -> {
+            // Bloquear el resumen primero: los upserts concurrentes esperan y se aplican sobre lo corregido
+            Map<MaterialSummaryId, MaterialSummary> stored = new HashMap<>();
+            summaryRepository.findAllForUpdate().forEach(summary -> stored.put(summary.getId(), summary));
+
+            int changes = 0;
+            for (MaterialSummary actual : summaryRepository.computeFromMaterials()) {
+                MaterialSummary current = stored.remove(actual.getId());
+                if (current == null) {
+                    // Llave nueva: el bloqueo no la cubre y un beforeCommit concurrente puede insertarla
+                    // al mismo tiempo; el mismo upsert suma en lugar de fallar por llave duplicada
+                    summaryRepository.applyDelta(actual.getId(), actual.getMaterialCount(), actual.getTotalPrice());
+                    changes++;
+                } else if (current.getMaterialCount() != actual.getMaterialCount()
+                        || current.getTotalPrice().compareTo(actual.getTotalPrice()) != 0) {
+                    logger.debug("Corrigiendo resumen {}: {} -> {} materiales", actual.getId(),
+                            current.getMaterialCount(), actual.getMaterialCount());
+                    current.setMaterialCount(actual.getMaterialCount());
+                    current.setTotalPrice(actual.getTotalPrice());
+                    changes++;
+                }
+            }
+
+            // Grupos sin materiales (incluye las filas en cero que dejan las eliminaciones)
+            for (MaterialSummary stale : stored.values()) {
+                if (stale.getMaterialCount() != 0 || stale.getTotalPrice().signum() != 0) {
+                    changes++;
+                }
+                entityManager.remove(stale);
+            }
+            return changes;
+        });
+
+        reconciled = true;
+        int changes = corrected != null ? corrected : 0;
+        if (changes > 0) {
+            logger.warn("Resumen de materiales reconciliado: {} filas corregidas en {} ms",
+                    changes, (System.nanoTime() - startNanos) / 1_000_000);
+        } else {
+            logger.info("Resumen de materiales consistente ({} ms)", (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return changes;
+    }
+
+    /**
+     * Deltas de una transacción por llave del resumen; se aplican en orden de llave
+     * para que dos transacciones concurrentes no se bloqueen mutuamente
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<MaterialSummaryId, Delta> deltas = new TreeMap<>(MaterialSummaryId.ORDER);
+
+        private void add(MaterialChangedEvent.MaterialSnapshot snapshot, int sign) {
+            if (snapshot == null) {
+                return;
+            }
+            MaterialSummaryId id = new MaterialSummaryId(snapshot.getDepartmentCode(), snapshot.getType(),
+                    snapshot.getStatus(), snapshot.getPurchaseDate());
+            deltas.computeIfAbsent(id, key -> new Delta()).add(sign, snapshot.getPrice());
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltas.forEach((id, delta) -> {
+                if (!delta.isZero()) {
+                    summaryRepository.applyDelta(id, delta.count, delta.price);
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MaterialSummaryServiceImpl.this);
+        }
+    }
+
+    private static final class Delta {
+
+        private long count;
+        private BigDecimal price = BigDecimal.ZERO;
+
+        private void add(int sign, BigDecimal value) {
+            count += sign;
+            price = sign > 0 ? price.add(value) : price.subtract(value);
+        }
+
+        private boolean isZero() {
+            return count == 0 && price.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- Esquema inicial (el que creaba Hibernate con ddl-auto=update antes de las migraciones versionadas).
+-- Solo se ejecuta sobre una base vacía: en una base con tablas, baseline-on-migrate registra el
+-- esquema existente como versión 1 y se aplica desde V2.
+
+CREATE TABLE IF NOT EXISTS departments (
+    code VARCHAR(10)  PRIMARY KEY,
+    name VARCHAR(100) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS cities (
+    code            VARCHAR(10)  PRIMARY KEY,
+    name            VARCHAR(100) NOT NULL,
+    department_code VARCHAR(10)  NOT NULL REFERENCES departments (code)
+);
+
+CREATE TABLE IF NOT EXISTS materials (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(100)   NOT NULL,
+    description   VARCHAR(500)   NOT NULL,
+    type          VARCHAR(255)   NOT NULL,
+    price         NUMERIC(15, 2) NOT NULL,
+    purchase_date DATE           NOT NULL,
+    sale_date     DATE,
+    status        VARCHAR(255)   NOT NULL,
+    city_code     VARCHAR(10)    NOT NULL REFERENCES cities (code),
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6)
+);
@@ -0,0 +1,13 @@
+-- ID de materials generado por secuencia con asignación en bloque (allocationSize = 50 en Material)
+-- para que Hibernate pueda agrupar los INSERT en lotes JDBC.
+-- Ejecutar antes de desplegar: con ddl-auto=update Hibernate crearía la secuencia empezando en 1.
+
+CREATE SEQUENCE IF NOT EXISTS materials_seq START WITH 1 INCREMENT BY 50;
+
+-- El optimizador pooled usa el bloque (valor - 50, valor], por lo que la secuencia
+-- debe quedar al menos 50 por encima del ID máximo existente
+SELECT setval('materials_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM materials));
+
+-- La columna deja de depender del valor por defecto de la antigua columna IDENTITY/serial
+ALTER TABLE materials ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE materials ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,26 @@
+-- Trabajos de importación de materiales desde CSV y sus errores por fila
+
+CREATE TABLE IF NOT EXISTS material_import_jobs (
+    id                 BIGSERIAL PRIMARY KEY,
+    file_name          VARCHAR(255)  NOT NULL,
+    file_path          VARCHAR(500)  NOT NULL,
+    status             VARCHAR(20)   NOT NULL,
+    processed_rows     BIGINT        NOT NULL DEFAULT 0,
+    imported_rows      BIGINT        NOT NULL DEFAULT 0,
+    failed_rows        BIGINT        NOT NULL DEFAULT 0,
+    elapsed_millis     BIGINT        NOT NULL DEFAULT 0,
+    failure_message    VARCHAR(1000),
+    started_at         TIMESTAMP,
+    finished_at        TIMESTAMP,
+    last_checkpoint_at TIMESTAMP,
+    created_at         TIMESTAMP     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS material_import_errors (
+    id          BIGSERIAL PRIMARY KEY,
+    job_id      BIGINT        NOT NULL REFERENCES material_import_jobs (id) ON DELETE CASCADE,
+    line_number BIGINT        NOT NULL,
+    message     VARCHAR(1000) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_material_import_errors_job ON material_import_errors (job_id, line_number);
@@ -0,0 +1,19 @@
+-- Índices alineados con las consultas de MaterialRepository (ver @Table(indexes) en Material y City).
+-- Todos terminan en (purchase_date DESC, id DESC) para servir también el orden de los listados
+-- y la paginación por cursor sin ordenar en memoria.
+-- En tablas grandes puede ejecutarse cada índice con CREATE INDEX CONCURRENTLY fuera de una transacción.
+
+CREATE INDEX IF NOT EXISTS idx_materials_purchase_date_id
+    ON materials (purchase_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_materials_type_purchase_date
+    ON materials (type, purchase_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_materials_city_purchase_date
+    ON materials (city_code, purchase_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_cities_department_code
+    ON cities (department_code, code);
+
+ANALYZE materials;
+ANALYZE cities;
@@ -0,0 +1,19 @@
+-- Búsqueda de texto de materiales (GET /api/materials/text-search) y búsquedas por nombre con LIKE.
+-- Las expresiones de los índices deben coincidir con las de MaterialSearchRepositoryImpl.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Texto completo sobre nombre y descripción
+CREATE INDEX IF NOT EXISTS idx_materials_text_search
+    ON materials USING gin (to_tsvector('spanish', name || ' ' || description));
+
+-- Subcadenas del nombre: sirve a upper(name) LIKE '%x%' (text-search, /by-name)
+CREATE INDEX IF NOT EXISTS idx_materials_name_trgm
+    ON materials USING gin (upper(name) gin_trgm_ops);
+
+-- Búsqueda de ciudades por nombre (findByNameContainingIgnoreCase)
+CREATE INDEX IF NOT EXISTS idx_cities_name_trgm
+    ON cities USING gin (upper(name) gin_trgm_ops);
+
+ANALYZE materials;
+ANALYZE cities;
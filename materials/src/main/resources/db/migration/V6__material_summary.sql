@@ -0,0 +1,21 @@
+-- Resumen precalculado de materiales por departamento, tipo, estado y mes de compra.
+-- Se mantiene en la misma transacción que cada cambio (MaterialSummaryServiceImpl) y se
+-- reconcilia periódicamente; la carga inicial también la hace la reconciliación al arrancar.
+
+CREATE TABLE IF NOT EXISTS material_summary (
+    department_code VARCHAR(10)    NOT NULL,
+    type            VARCHAR(20)    NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    purchase_month  DATE           NOT NULL,
+    material_count  BIGINT         NOT NULL,
+    total_price     NUMERIC(19, 2) NOT NULL,
+    PRIMARY KEY (department_code, type, status, purchase_month)
+);
+
+INSERT INTO material_summary (department_code, type, status, purchase_month, material_count, total_price)
+SELECT c.department_code, m.type, m.status, CAST(date_trunc('month', m.purchase_date) AS DATE),
+       COUNT(*), SUM(m.price)
+FROM materials m
+JOIN cities c ON c.code = m.city_code
+GROUP BY c.department_code, m.type, m.status, CAST(date_trunc('month', m.purchase_date) AS DATE)
+ON CONFLICT DO NOTHING;
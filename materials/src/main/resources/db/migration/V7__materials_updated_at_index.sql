@@ -0,0 +1,5 @@
+-- MAX(updated_at) sin recorrer la tabla: versión de los listados de materiales (ETag)
+-- y reconciliación del índice de sugerencias.
+
+CREATE INDEX IF NOT EXISTS idx_materials_updated_at
+    ON materials (updated_at);
@@ -0,0 +1,5 @@
+-- Versión para el bloqueo optimista de materiales (@Version) y las actualizaciones
+-- condicionales con If-Match; las filas existentes inician en 0.
+
+ALTER TABLE materials
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Los índices de ciudad y departamento pasan a cubrir solo la llave foránea (ver @Table(indexes) en
+-- Material y City). Las consultas por ciudad o departamento filtran por igualdad y el índice compuesto
+-- no se usaba: en H2 el planificador elegía el índice propio de la FK, y en PostgreSQL, que no indexa
+-- las FK, estos son los índices del join cities -> materials.
+
+DROP INDEX IF EXISTS idx_materials_city_purchase_date;
+CREATE INDEX IF NOT EXISTS idx_materials_city_code
+    ON materials (city_code);
+
+DROP INDEX IF EXISTS idx_cities_department_code;
+CREATE INDEX IF NOT EXISTS idx_cities_department
+    ON cities (department_code);
+
+ANALYZE materials;
+ANALYZE cities;
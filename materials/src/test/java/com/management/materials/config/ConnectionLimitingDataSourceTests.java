@@ -0,0 +1,126 @@
+package com.management.materials.config;
+
+import com.management.materials.service.IMaterialService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el modo con hilos virtuales: con más peticiones concurrentes que conexiones en el pool
+ * de Hikari, las peticiones esperan su turno en el semáforo y terminan todas sin errores
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:connectionlimit;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=" + ConnectionLimitingDataSourceTests.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.sql.init.mode=never",
+        "app.virtual-threads.enabled=true"
+})
+class ConnectionLimitingDataSourceTests {
+
+    static final int POOL_SIZE = 3;
+    private static final int REQUESTS = POOL_SIZE * 20;
+    private static final long HOLD_MILLIS = 20;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private IMaterialService materialService;
+
+    @Test
+    void dataSourceIsLimitedToHikariPoolSize() throws SQLException {
+        ConnectionLimitingDataSource limiting = dataSource.unwrap(ConnectionLimitingDataSource.class);
+
+        assertThat(limiting.getMaxPermits()).isEqualTo(POOL_SIZE);
+        assertThat(limiting.getAvailablePermits()).isEqualTo(POOL_SIZE);
+    }
+
+    /**
+     * Cada petición retiene su conexión un momento: las que exceden el pool esperan en el semáforo
+     * (nunca hay más de POOL_SIZE conexiones prestadas) y todas terminan
+     */
+    @Test
+    void requestsBeyondPoolSizeWaitAndComplete() throws Exception {
+        ConnectionLimitingDataSource limiting = dataSource.unwrap(ConnectionLimitingDataSource.class);
+        AtomicInteger borrowed = new AtomicInteger();
+        AtomicInteger maxBorrowed = new AtomicInteger();
+        AtomicInteger maxQueued = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement()) {
+                        maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+                        maxQueued.accumulateAndGet(limiting.getQueuedThreads(), Math::max);
+                        statement.execute("SELECT 1");
+                        Thread.sleep(HOLD_MILLIS);
+                        borrowed.decrementAndGet();
+                        return 1;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int completed = 0;
+            for (Future<Integer> result : results) {
+                completed += result.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(completed).isEqualTo(REQUESTS);
+        }
+
+        assertThat(maxBorrowed.get()).as("Conexiones prestadas a la vez").isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(maxQueued.get()).as("Hilos esperando un permiso").isPositive();
+        assertThat(limiting.getAvailablePermits()).isEqualTo(POOL_SIZE);
+        assertThat(limiting.getQueuedThreads()).isZero();
+    }
+
+    @Test
+    void concurrentServiceCallsBeyondPoolSizeComplete() throws Exception {
+        ConnectionLimitingDataSource limiting = dataSource.unwrap(ConnectionLimitingDataSource.class);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return materialService.getMaterialsPage(null, 20).getItems().size();
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isZero();
+            }
+        }
+
+        assertThat(limiting.getAvailablePermits()).isEqualTo(POOL_SIZE);
+    }
+}
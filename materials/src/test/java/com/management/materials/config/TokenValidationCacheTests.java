@@ -0,0 +1,165 @@
+package com.management.materials.config;
+
+import com.management.materials.dto.request.UserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Verifica que la caché de validación de tokens evite llamadas repetidas al servicio de
+ * autenticación y que sus entradas nunca sobrevivan al "exp" del JWT
+ */
+class TokenValidationCacheTests {
+
+    private static final String AUTH_URL = "http://auth.test";
+    private static final String VALID_RESPONSE =
+            "{\"success\":true,\"message\":\"Token válido\",\"data\":{\"id\":1,\"username\":\"ana\"}}";
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-06-01T10:00:00Z"));
+    }
+
+    @Test
+    void authenticateCallsAuthServerOncePerTokenUntilExpiration() {
+        TokenValidationCache cache = new TokenValidationCache(true, 100, 60, clock);
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer authServer = MockRestServiceServer.bindTo(restTemplate).build();
+        AuthClient authClient = new AuthClient(restTemplate, cache,
+                new CircuitBreaker("auth", 5, 30000), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(authClient, "authServiceUrl", AUTH_URL);
+
+        String token = jwt(clock.instant().plusSeconds(30));
+        authServer.expect(ExpectedCount.once(), requestTo(AUTH_URL + "/api/auth/validate"))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andRespond(withSuccess(VALID_RESPONSE, MediaType.APPLICATION_JSON));
+
+        assertThat(authClient.authenticate(token).getUsername()).isEqualTo("ana");
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(authClient.authenticate(token).getUsername()).isEqualTo("ana");
+        authServer.verify();
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        // Vencido el "exp" (antes que el TTL de 60 s) se vuelve a validar contra el servicio
+        authServer.reset();
+        authServer.expect(ExpectedCount.once(), requestTo(AUTH_URL + "/api/auth/validate"))
+                .andRespond(withSuccess(VALID_RESPONSE, MediaType.APPLICATION_JSON));
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(authClient.authenticate(token)).isNotNull();
+        authServer.verify();
+    }
+
+    @Test
+    void entryExpiresAtTokenExpirationWhenBeforeTtl() {
+        TokenValidationCache cache = new TokenValidationCache(true, 100, 60, clock);
+        String token = jwt(clock.instant().plusSeconds(10));
+
+        cache.put(token, user("ana"));
+
+        clock.advance(Duration.ofSeconds(9));
+        assertThat(cache.get(token)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    void entryExpiresAtTtlWhenBeforeTokenExpiration() {
+        TokenValidationCache cache = new TokenValidationCache(true, 100, 60, clock);
+        String token = jwt(clock.instant().plusSeconds(3600));
+
+        cache.put(token, user("ana"));
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get(token)).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    void expiredTokenIsNotCached() {
+        TokenValidationCache cache = new TokenValidationCache(true, 100, 60, clock);
+        String token = jwt(clock.instant().minusSeconds(1));
+
+        cache.put(token, user("ana"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void sizeStaysBoundedByMaxEntries() {
+        TokenValidationCache cache = new TokenValidationCache(true, 50, 60, clock);
+
+        for (int i = 0; i < 500; i++) {
+            cache.put(jwt(clock.instant().plusSeconds(600 + i)), user("user" + i));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getEvictions()).isGreaterThanOrEqualTo(450);
+    }
+
+    private static String jwt(Instant expiration) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"sub\":\"ana\",\"exp\":" + expiration.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".firma";
+    }
+
+    private static UserInfo user(String username) {
+        UserInfo userInfo = new UserInfo();
+        userInfo.setUsername(username);
+        return userInfo;
+    }
+
+    /**
+     * Reloj que solo avanza cuando la prueba lo indica
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
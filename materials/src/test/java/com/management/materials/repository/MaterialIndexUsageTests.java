@@ -0,0 +1,166 @@
+package com.management.materials.repository;
+
+import com.management.materials.config.QueryStatsInspector;
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifica con EXPLAIN que el SQL que Hibernate genera para las consultas de
+ * MaterialRepository usa los índices declarados en Material y City
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexusage;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.sql.init.mode=never"
+})
+class MaterialIndexUsageTests {
+
+    private static final int MATERIALS = 500;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * StatementInspector registrado por MetricsConfig: el espía registra el SQL que genera Hibernate
+     */
+    @SpyBean
+    private QueryStatsInspector queryStatsInspector;
+
+    @BeforeEach
+    void setUp() {
+        Department antioquia = departmentRepository.save(new Department("ANT", "Antioquia"));
+        Department valle = departmentRepository.save(new Department("VAL", "Valle del Cauca"));
+        List<City> cities = cityRepository.saveAll(List.of(
+                new City("MED", "Medellín", antioquia),
+                new City("ENV", "Envigado", antioquia),
+                new City("CAL", "Cali", valle),
+                new City("PAL", "Palmira", valle)
+        ));
+
+        List<Material> materials = new ArrayList<>();
+        for (int i = 0; i < MATERIALS; i++) {
+            materials.add(new Material("Material " + i, "Descripción del material " + i,
+                    MaterialType.values()[i % MaterialType.values().length],
+                    BigDecimal.valueOf(1000 + i), LocalDate.of(2024, 1 + (i % 12), 1 + (i % 28)),
+                    MaterialStatus.ACTIVE, cities.get(i % cities.size())));
+        }
+        materialRepository.saveAll(materials);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        materialRepository.deleteAll();
+        cityRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void findRowsByTypeUsesTypeIndex() {
+        String sql = capture(() -> materialRepository.findRowsByType(MaterialType.OFICINA));
+        assertPlanUses(sql, Material.INDEX_TYPE, MaterialType.OFICINA.name());
+    }
+
+    @Test
+    void findRowsByPurchaseDateUsesPurchaseDateIndex() {
+        LocalDate purchaseDate = LocalDate.of(2024, 3, 3);
+        String sql = capture(() -> materialRepository.findRowsByPurchaseDate(purchaseDate));
+        assertPlanUses(sql, Material.INDEX_PURCHASE_DATE, purchaseDate);
+    }
+
+    @Test
+    void findRowsByCityCodeUsesCityIndex() {
+        String sql = capture(() -> materialRepository.findRowsByCityCode("MED"));
+        assertPlanUses(sql, Material.INDEX_CITY, "MED");
+    }
+
+    @Test
+    void findRowsByDepartmentCodeUsesCityIndexes() {
+        String sql = capture(() -> materialRepository.findRowsByDepartmentCode("VAL"));
+        assertPlanUses(sql, City.INDEX_DEPARTMENT, "VAL");
+        assertPlanUses(sql, Material.INDEX_CITY, "VAL");
+    }
+
+    @Test
+    void searchRowsWithTypeAndCityUsesTypeOrCityIndex() {
+        MaterialSearchDto search = new MaterialSearchDto(MaterialType.OFICINA, null, "MED", null);
+        String sql = capture(() -> materialRepository.searchRows(search));
+
+        // Parámetros en el orden de los filtros de buildPredicates: tipo y ciudad
+        assertThat(explain(sql, MaterialType.OFICINA.name(), "MED"))
+                .as("Plan de: %s", sql)
+                .containsAnyOf(Material.INDEX_TYPE.toUpperCase(Locale.ROOT),
+                        Material.INDEX_CITY.toUpperCase(Locale.ROOT));
+    }
+
+    @Test
+    void findFirstRowPageUsesPurchaseDateIndex() {
+        String sql = capture(() -> materialRepository.findFirstRowPage(PageRequest.of(0, 51)));
+        assertPlanUses(sql, Material.INDEX_PURCHASE_DATE, 51);
+    }
+
+    /**
+     * Ejecuta la consulta del repositorio y retorna el SELECT que Hibernate generó para ella
+     */
+    private String capture(Runnable query) {
+        clearInvocations(queryStatsInspector);
+        query.run();
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(queryStatsInspector, atLeastOnce()).inspect(statements.capture());
+        return statements.getAllValues().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .reduce((first, last) -> last)
+                .orElseThrow(() -> new AssertionError("Sin SELECT en " + statements.getAllValues()));
+    }
+
+    private void assertPlanUses(String sql, String index, Object... parameters) {
+        assertThat(explain(sql, parameters))
+                .as("Plan de: %s", sql)
+                .contains(index.toUpperCase(Locale.ROOT));
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters).toUpperCase(Locale.ROOT);
+    }
+}
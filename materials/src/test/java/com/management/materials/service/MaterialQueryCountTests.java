@@ -0,0 +1,233 @@
+package com.management.materials.service;
+
+import com.management.materials.cache.ReferenceDataCache;
+import com.management.materials.dto.request.MaterialRequestDto;
+import com.management.materials.dto.request.MaterialSearchDto;
+import com.management.materials.dto.response.BulkMaterialResultDto;
+import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.CityRepository;
+import com.management.materials.repository.DepartmentRepository;
+import com.management.materials.repository.MaterialRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que los endpoints de listado emitan un número constante de
+ * sentencias SQL, independiente de la cantidad de materiales retornados
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+class MaterialQueryCountTests {
+
+    private static final int MATERIALS = 30;
+    private static final long MAX_STATEMENTS_PER_LIST = 2;
+
+    @Autowired
+    private IMaterialService materialService;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Department antioquia = departmentRepository.save(new Department("ANT", "Antioquia"));
+        Department valle = departmentRepository.save(new Department("VAL", "Valle del Cauca"));
+        List<City> cities = cityRepository.saveAll(List.of(
+                new City("MED", "Medellín", antioquia),
+                new City("ENV", "Envigado", antioquia),
+                new City("CAL", "Cali", valle)
+        ));
+
+        List<Material> materials = new ArrayList<>();
+        for (int i = 0; i < MATERIALS; i++) {
+            materials.add(new Material("Material " + i, "Descripción del material " + i,
+                    i % 2 == 0 ? MaterialType.ELECTRONICO : MaterialType.OFICINA,
+                    BigDecimal.valueOf(1000 + i), LocalDate.of(2024, 1, 1 + (i % 28)),
+                    MaterialStatus.ACTIVE, cities.get(i % cities.size())));
+        }
+        materialRepository.saveAll(materials);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        materialRepository.deleteAll();
+        cityRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void getAllMaterialsUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getAllMaterials());
+    }
+
+    @Test
+    void getMaterialsPageUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsPage(null, 20).getItems());
+    }
+
+    @Test
+    void getMaterialsByTypeUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsByType(MaterialType.ELECTRONICO));
+    }
+
+    @Test
+    void getMaterialsByPurchaseDateUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsByPurchaseDate(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void getMaterialsByCityCodeUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsByCityCode("MED"));
+    }
+
+    @Test
+    void getMaterialsByDepartmentCodeUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsByDepartmentCode("ANT"));
+    }
+
+    @Test
+    void searchMaterialsUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.searchMaterials(
+                new MaterialSearchDto(MaterialType.OFICINA, null, null, "VAL")));
+    }
+
+    @Test
+    void getMaterialsByNameUsesConstantQueries() {
+        assertConstantQueries(() -> materialService.getMaterialsByName("Material"));
+    }
+
+    /**
+     * Las filas proyectadas llevan la versión del material: el cliente la usa en If-Match
+     */
+    @Test
+    void listedMaterialsIncludeVersion() {
+        assertThat(materialService.getMaterialsByType(MaterialType.ELECTRONICO))
+                .isNotEmpty()
+                .allSatisfy(material -> assertThat(material.getVersion()).isZero());
+    }
+
+    /**
+     * Fechas inconsistentes en una actualización condicional: IllegalArgumentException (400 en el controlador)
+     */
+    @Test
+    void conditionalUpdateWithSaleBeforePurchaseIsRejected() {
+        Long id = materialRepository.findAll().get(0).getId();
+        MaterialRequestDto request = new MaterialRequestDto("Silla", "Silla de oficina", MaterialType.OFICINA,
+                BigDecimal.valueOf(250000), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1),
+                MaterialStatus.ACTIVE, "MED");
+
+        assertThatThrownBy(() -> materialService.updateMaterial(id, request, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> materialService.updateMaterial(id, request, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * La ciudad no está en la caché de referencia (se creó después del arranque), por lo que
+     * convertToResponseDto recorre material.getCity().getDepartment(): ambas cargas deben
+     * resolverse desde la caché de segundo nivel, sin consultas a cities ni departments
+     */
+    @Test
+    void createMaterialLoadsReferenceDataFromSecondLevelCache() {
+        statistics.clear();
+
+        MaterialResponseDto created = materialService.createMaterial(new MaterialRequestDto("Silla", "Silla de oficina",
+                MaterialType.OFICINA, BigDecimal.valueOf(250000), LocalDate.of(2024, 3, 1), null,
+                MaterialStatus.ACTIVE, "MED"));
+
+        assertThat(created.getCity().getDepartment().getName()).isEqualTo("Antioquia");
+        for (Class<?> entity : List.of(City.class, Department.class)) {
+            assertThat(statistics.getEntityStatistics(entity.getName()).getCacheHitCount())
+                    .as("Aciertos de caché de %s", entity.getSimpleName())
+                    .isPositive();
+            assertThat(statistics.getEntityStatistics(entity.getName()).getLoadCount())
+                    .as("Cargas desde la base de datos de %s", entity.getSimpleName())
+                    .isZero();
+        }
+    }
+
+    /**
+     * La creación en lote limpia el contexto de persistencia cada batch_size (50) filas: las ciudades
+     * que aparecen por primera vez después de una limpieza no deben inicializarse (ni fallar por
+     * estar desasociadas) al armar los eventos
+     */
+    @Test
+    void createMaterialsAcrossBatchesDoesNotLoadCities() {
+        referenceDataCache.refresh();
+        List<MaterialRequestDto> requests = new ArrayList<>();
+        for (String cityCode : List.of("MED", "ENV", "CAL")) {
+            for (int i = 0; i < 60; i++) {
+                requests.add(new MaterialRequestDto("Lote " + cityCode + " " + i, "Material en lote",
+                        MaterialType.OFICINA, BigDecimal.valueOf(1000 + i), LocalDate.of(2024, 2, 1), null,
+                        MaterialStatus.ACTIVE, cityCode));
+            }
+        }
+        statistics.clear();
+
+        BulkMaterialResultDto result = materialService.createMaterials(requests);
+
+        assertThat(result.getCreated()).isEqualTo(requests.size());
+        assertThat(result.getFailed()).isZero();
+        assertThat(statistics.getEntityStatistics(City.class.getName()).getLoadCount())
+                .as("Ciudades cargadas desde la base de datos").isZero();
+        assertThat(statistics.getEntityStatistics(City.class.getName()).getCacheHitCount())
+                .as("Ciudades inicializadas desde la caché de segundo nivel").isZero();
+    }
+
+    private void assertConstantQueries(Supplier<List<?>> endpoint) {
+        statistics.clear();
+
+        List<?> result = endpoint.get();
+
+        assertThat(result).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Sentencias SQL emitidas para %d resultados", result.size())
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_LIST);
+    }
+}
@@ -0,0 +1,149 @@
+package com.management.materials.service;
+
+import com.management.materials.dto.response.CursorPageDto;
+import com.management.materials.dto.response.MaterialResponseDto;
+import com.management.materials.entity.City;
+import com.management.materials.entity.Department;
+import com.management.materials.entity.Material;
+import com.management.materials.enums.MaterialStatus;
+import com.management.materials.enums.MaterialType;
+import com.management.materials.repository.CityRepository;
+import com.management.materials.repository.DepartmentRepository;
+import com.management.materials.repository.MaterialRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica la búsqueda de texto de materiales sobre H2 (alternativa LIKE de la búsqueda de texto
+ * completo y trigramas de PostgreSQL): orden por relevancia, paginación, escape de comodines,
+ * límite de páginas y latencia con varios miles de filas
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:textsearch;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.sql.init.mode=never"
+})
+class MaterialTextSearchTests {
+
+    private static final int MATERIALS = 2000;
+    private static final int NAME_MATCHES = MATERIALS / 100;
+    private static final int DESCRIPTION_MATCHES = MATERIALS / 100;
+    private static final long MAX_MEDIAN_MILLIS = 200;
+
+    @Autowired
+    private IMaterialService materialService;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        Department antioquia = departmentRepository.save(new Department("ANT", "Antioquia"));
+        City medellin = cityRepository.save(new City("MED", "Medellín", antioquia));
+
+        // Uno de cada 100 materiales tiene "taladro" en el nombre y otro en la descripción
+        List<Material> materials = new ArrayList<>();
+        for (int i = 0; i < MATERIALS; i++) {
+            String name = i % 100 == 0 ? "Taladro percutor " + i : "Material " + i;
+            String description = i % 100 == 50 ? "Incluye taladro de repuesto " + i : "Descripción del material " + i;
+            materials.add(new Material(name, description, MaterialType.ELECTRONICO, BigDecimal.valueOf(1000 + i),
+                    LocalDate.of(2024, 1, 1 + (i % 28)), MaterialStatus.ACTIVE, medellin));
+        }
+        materials.add(new Material("Descuento 50% en cables", "Cables con descuento de temporada",
+                MaterialType.ELECTRONICO, BigDecimal.valueOf(500), LocalDate.of(2024, 2, 1),
+                MaterialStatus.ACTIVE, medellin));
+        materialRepository.saveAll(materials);
+    }
+
+    @AfterEach
+    void tearDown() {
+        materialRepository.deleteAll();
+        cityRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void searchByTextRanksNameMatchesFirstAndPaginates() {
+        int pageSize = NAME_MATCHES + 10;
+
+        CursorPageDto<MaterialResponseDto> first = materialService.searchMaterialsByText("TALADRO", 0, pageSize);
+
+        assertThat(first.getItems()).hasSize(pageSize);
+        assertThat(first.getNextCursor()).isEqualTo("1");
+        assertThat(first.getItems().subList(0, NAME_MATCHES))
+                .allSatisfy(material -> assertThat(material.getName()).startsWith("Taladro"));
+        assertThat(first.getItems().subList(NAME_MATCHES, pageSize))
+                .allSatisfy(material -> assertThat(material.getDescription()).contains("taladro"));
+
+        CursorPageDto<MaterialResponseDto> second = materialService.searchMaterialsByText("TALADRO", 1, pageSize);
+
+        assertThat(second.getItems()).hasSize(NAME_MATCHES + DESCRIPTION_MATCHES - pageSize);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getItems()).extracting(MaterialResponseDto::getId)
+                .doesNotContainAnyElementsOf(first.getItems().stream().map(MaterialResponseDto::getId).toList());
+    }
+
+    @Test
+    void searchByTextEscapesLikeWildcards() {
+        CursorPageDto<MaterialResponseDto> result = materialService.searchMaterialsByText("50%", 0, 20);
+
+        assertThat(result.getItems()).extracting(MaterialResponseDto::getName)
+                .containsExactly("Descuento 50% en cables");
+    }
+
+    /**
+     * page * size supera Integer.MAX_VALUE: se rechaza en lugar de desbordar a un desplazamiento negativo
+     */
+    @Test
+    void searchByTextRejectsPageBeyondOffsetRange() {
+        assertThatThrownBy(() -> materialService.searchMaterialsByText("taladro", Integer.MAX_VALUE, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> materialService.searchMaterialsByText("taladro", Integer.MAX_VALUE / 100, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void searchByTextMedianLatencyStaysBounded() {
+        for (int i = 0; i < 5; i++) {
+            materialService.searchMaterialsByText("taladro", 0, 50);
+        }
+
+        long[] millis = new long[21];
+        for (int i = 0; i < millis.length; i++) {
+            long start = System.nanoTime();
+            assertThat(materialService.searchMaterialsByText("taladro", 0, 50).getItems())
+                    .hasSize(NAME_MATCHES + DESCRIPTION_MATCHES);
+            millis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        Arrays.sort(millis);
+
+        assertThat(millis[millis.length / 2])
+                .as("Mediana de la búsqueda de texto sobre %d materiales (ms)", MATERIALS)
+                .isLessThanOrEqualTo(MAX_MEDIAN_MILLIS);
+    }
+}